@@ -34,6 +34,7 @@ module org.eclipse.microprofile.openapi {
     exports org.eclipse.microprofile.openapi.annotations.security;
     exports org.eclipse.microprofile.openapi.annotations.servers;
     exports org.eclipse.microprofile.openapi.annotations.tags;
+    exports org.eclipse.microprofile.openapi.expressions;
     exports org.eclipse.microprofile.openapi.models;
     exports org.eclipse.microprofile.openapi.models.callbacks;
     exports org.eclipse.microprofile.openapi.models.examples;
@@ -97,6 +97,20 @@ public final class OASConfig {
      */
     public static final String SCHEMA_PREFIX = "mp.openapi.schema.";
 
+    /**
+     * Configuration property to enable the replacement of structurally identical inline schemas with references to a
+     * single schema in the components section.
+     *
+     */
+    public static final String SCHEMAS_DEDUPLICATE = "mp.openapi.schemas.deduplicate";
+
+    /**
+     * Configuration property to enable the removal of entries of the components section which are not referenced from
+     * the rest of the document.
+     *
+     */
+    public static final String COMPONENTS_PRUNE = "mp.openapi.components.prune";
+
     /**
      * Recommended prefix for vendor specific configuration properties.
      *
@@ -96,6 +96,61 @@ public final class OASFactory {
         return OASFactoryResolver.instance().createObject(clazz);
     }
 
+    /**
+     * This method returns a canonical instance of the given string value, so that values which are repeated across an
+     * OpenAPI model (e.g. media types, response codes or references) can share a single instance.
+     *
+     * <br>
+     * <br>
+     * Example:
+     *
+     * <pre>
+     * <code>OASFactory.createContent().addMediaType(OASFactory.intern("application/json"), mediaType);
+     * </code>
+     * </pre>
+     *
+     * @param value
+     *            the value to intern, may be {@code null}
+     * @return a string equal to the given value, which is the same instance for all equal values, or {@code null} if
+     *         the given value is {@code null}
+     *
+     * @see OASFactoryResolver#intern(String)
+     */
+    public static String intern(String value) {
+        return OASFactoryResolver.instance().intern(value);
+    }
+
+    /**
+     * This method returns a shared instance of the given model object, so that equal objects which are repeated across
+     * an OpenAPI model (e.g. the security requirements or servers of many operations) can share a single immutable
+     * instance. Sharing equal objects returns equal objects. A returned object which is not the given object rejects
+     * every modification, including {@code addX} and {@code removeX} calls, with an
+     * {@link UnsupportedOperationException}. Shared objects are replaced by unshared copies before the model is passed
+     * to an {@code OASFilter}.
+     *
+     * <br>
+     * <br>
+     * Example:
+     *
+     * <pre>
+     * <code>SecurityRequirement apiKey = OASFactory.share(OASFactory.createSecurityRequirement().addScheme("apiKey"));
+     * operation.addSecurityRequirement(apiKey);
+     * </code>
+     * </pre>
+     *
+     * @param <T>
+     *            the type of the model object
+     * @param object
+     *            the model object to share, may be {@code null}
+     * @return an object equal to the given object, which must not be modified, or {@code null} if the given object is
+     *         {@code null}
+     *
+     * @see OASFactoryResolver#share(Constructible)
+     */
+    public static <T extends Constructible> T share(T object) {
+        return OASFactoryResolver.instance().share(object);
+    }
+
     /**
      * This method creates a new {@link org.eclipse.microprofile.openapi.models.Components} instance.
      *
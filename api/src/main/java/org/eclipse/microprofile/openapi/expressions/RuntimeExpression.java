@@ -0,0 +1,412 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.expressions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.internal.BoundedCache;
+
+/**
+ * A compiled runtime expression, or a string in which runtime expressions are embedded.
+ * <p>
+ * Runtime expressions are found in the keys of {@link org.eclipse.microprofile.openapi.models.callbacks.Callback
+ * Callback} objects and in the parameters and request body of
+ * {@link org.eclipse.microprofile.openapi.models.links.Link Link} objects. Three forms are supported:
+ * <ul>
+ * <li>a single expression, e.g. {@code $request.body#/url}, which evaluates to the referenced value</li>
+ * <li>a string with expressions embedded in braces, e.g. {@code {$request.body#/url}/events?id={$request.query.id}},
+ * which evaluates to the string with each expression replaced by its value</li>
+ * <li>any other string, which evaluates to itself</li>
+ * </ul>
+ * <p>
+ * The following expressions are supported: {@code $url}, {@code $method}, {@code $statusCode},
+ * {@code $request.header.}<i>name</i>, {@code $request.query.}<i>name</i>, {@code $request.path.}<i>name</i>,
+ * {@code $request.body} optionally followed by {@code #} and a JSON pointer, and the same sources of
+ * {@code $response}.
+ * <p>
+ * Instances of this class are immutable and may be shared between threads.
+ *
+ * @since 4.1
+ */
+public final class RuntimeExpression {
+
+    /**
+     * The HTTP request and response against which expressions are evaluated.
+     * <p>
+     * Bodies are represented as they are by common JSON parsers: {@link Map} for objects, {@link List} for arrays,
+     * {@link String}, {@link Number}, {@link Boolean} and {@code null}.
+     */
+    public interface Context {
+
+        /**
+         * Returns the full URL of the request.
+         *
+         * @return the URL
+         */
+        String getUrl();
+
+        /**
+         * Returns the HTTP method of the request.
+         *
+         * @return the HTTP method, e.g. {@code POST}
+         */
+        String getMethod();
+
+        /**
+         * Returns the status code of the response.
+         *
+         * @return the status code, or {@code null} if there is no response
+         */
+        Integer getStatusCode();
+
+        /**
+         * Returns the value of a header of the request. Header names are case-insensitive.
+         *
+         * @param name
+         *            the name of the header
+         * @return the value of the header, or {@code null} if the request has no such header
+         */
+        String getRequestHeader(String name);
+
+        /**
+         * Returns the value of a query parameter of the request.
+         *
+         * @param name
+         *            the name of the query parameter
+         * @return the value of the query parameter, or {@code null} if the request has no such query parameter
+         */
+        String getRequestQueryParameter(String name);
+
+        /**
+         * Returns the value of a path parameter of the request.
+         *
+         * @param name
+         *            the name of the path parameter
+         * @return the value of the path parameter, or {@code null} if the request has no such path parameter
+         */
+        String getRequestPathParameter(String name);
+
+        /**
+         * Returns the parsed body of the request.
+         *
+         * @return the body, or {@code null} if the request has no body
+         */
+        Object getRequestBody();
+
+        /**
+         * Returns the value of a header of the response. Header names are case-insensitive.
+         *
+         * @param name
+         *            the name of the header
+         * @return the value of the header, or {@code null} if the response has no such header
+         */
+        String getResponseHeader(String name);
+
+        /**
+         * Returns the value of a query parameter of the response. Responses have no query parameters, so the default
+         * implementation returns {@code null}.
+         *
+         * @param name
+         *            the name of the query parameter
+         * @return the value of the query parameter, or {@code null}
+         */
+        default String getResponseQueryParameter(String name) {
+            return null;
+        }
+
+        /**
+         * Returns the value of a path parameter of the response. Responses have no path parameters, so the default
+         * implementation returns {@code null}.
+         *
+         * @param name
+         *            the name of the path parameter
+         * @return the value of the path parameter, or {@code null}
+         */
+        default String getResponsePathParameter(String name) {
+            return null;
+        }
+
+        /**
+         * Returns the parsed body of the response.
+         *
+         * @return the body, or {@code null} if there is no response or it has no body
+         */
+        Object getResponseBody();
+    }
+
+    private static final BoundedCache<String, RuntimeExpression> CACHE = new BoundedCache<>(RuntimeExpression::parse);
+
+    private final String source;
+    // Literal strings and terms, in order
+    private final List<Object> parts;
+    private final boolean embedded;
+
+    private RuntimeExpression(String source, List<Object> parts, boolean embedded) {
+        this.source = source;
+        this.parts = parts;
+        this.embedded = embedded;
+    }
+
+    /**
+     * Compiles a runtime expression, or a string in which runtime expressions are embedded.
+     * <p>
+     * Compiled expressions are kept in a bounded cache, so that compiling the same string again, e.g. the key of a
+     * callback for every event, returns the same instance without parsing the string. The cache is shared by the whole
+     * process and holds at most 1024 expressions, after which it is cleared. Consumers which evaluate more distinct
+     * expressions than that, e.g. the callbacks of a large document, should compile each expression once and keep the
+     * result with the callback or link it belongs to, rather than compiling it again for every event.
+     *
+     * @param expression
+     *            the expression
+     * @return the compiled expression
+     * @throws NullPointerException
+     *             if the expression is {@code null}
+     * @throws IllegalArgumentException
+     *             if the string starts with {@code $} but is not a valid runtime expression, or contains an embedded
+     *             expression which is not valid or has no closing brace
+     */
+    public static RuntimeExpression compile(String expression) {
+        return CACHE.get(expression);
+    }
+
+    private static RuntimeExpression parse(String expression) {
+        if (expression.startsWith("$")) {
+            return new RuntimeExpression(expression, Collections.singletonList(Term.parse(expression)), false);
+        }
+        List<Object> parts = new ArrayList<>();
+        int start = 0;
+        int open = expression.indexOf("{$");
+        while (open >= 0) {
+            int close = expression.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Missing closing brace in " + expression);
+            }
+            if (open > start) {
+                parts.add(expression.substring(start, open));
+            }
+            parts.add(Term.parse(expression.substring(open + 1, close)));
+            start = close + 1;
+            open = expression.indexOf("{$", start);
+        }
+        if (start < expression.length()) {
+            parts.add(expression.substring(start));
+        }
+        return new RuntimeExpression(expression, Collections.unmodifiableList(parts), true);
+    }
+
+    /**
+     * Checks whether this expression is a constant, that is a string without any runtime expression.
+     *
+     * @return {@code true} if this expression always evaluates to the string it was compiled from
+     */
+    public boolean isConstant() {
+        return embedded && parts.stream().allMatch(String.class::isInstance);
+    }
+
+    /**
+     * Evaluates this expression.
+     *
+     * @param context
+     *            the request and response
+     * @return for a single expression, the referenced value, which may be any value of the body; for a string with
+     *         embedded expressions, the string with each expression replaced by its value; {@code null} if any of the
+     *         referenced values is not present
+     */
+    public Object evaluate(Context context) {
+        if (!embedded) {
+            return ((Term) parts.get(0)).evaluate(context);
+        }
+        if (parts.size() == 1 && parts.get(0) instanceof String) {
+            return parts.get(0);
+        }
+        StringBuilder sb = new StringBuilder();
+        for (Object part : parts) {
+            if (part instanceof Term) {
+                Object value = ((Term) part).evaluate(context);
+                if (value == null) {
+                    return null;
+                }
+                sb.append(value);
+            } else {
+                sb.append((String) part);
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof RuntimeExpression && source.equals(((RuntimeExpression) obj).source);
+    }
+
+    @Override
+    public int hashCode() {
+        return source.hashCode();
+    }
+
+    /**
+     * Returns the string this expression was compiled from.
+     *
+     * @return the source of this expression
+     */
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    // A single runtime expression
+    private static final class Term {
+
+        private enum Source {
+            URL, METHOD, STATUS_CODE, HEADER, QUERY, PATH, BODY
+        }
+
+        private final boolean response;
+        private final Source source;
+        private final String name;
+        // The reference tokens of the JSON pointer into the body, or null for the whole body
+        private final String[] pointer;
+
+        private Term(boolean response, Source source, String name, String[] pointer) {
+            this.response = response;
+            this.source = source;
+            this.name = name;
+            this.pointer = pointer;
+        }
+
+        static Term parse(String expression) {
+            switch (expression) {
+                case "$url" :
+                    return new Term(false, Source.URL, null, null);
+                case "$method" :
+                    return new Term(false, Source.METHOD, null, null);
+                case "$statusCode" :
+                    return new Term(true, Source.STATUS_CODE, null, null);
+                default :
+                    break;
+            }
+            boolean response;
+            String rest;
+            if (expression.startsWith("$request.")) {
+                response = false;
+                rest = expression.substring("$request.".length());
+            } else if (expression.startsWith("$response.")) {
+                response = true;
+                rest = expression.substring("$response.".length());
+            } else {
+                throw invalid(expression);
+            }
+            if (rest.equals("body")) {
+                return new Term(response, Source.BODY, null, null);
+            }
+            if (rest.startsWith("body#")) {
+                String[] pointer = parsePointer(rest.substring("body#".length()), expression);
+                return new Term(response, Source.BODY, null, pointer);
+            }
+            Source source;
+            String name;
+            if (rest.startsWith("header.")) {
+                source = Source.HEADER;
+                name = rest.substring("header.".length());
+            } else if (rest.startsWith("query.")) {
+                source = Source.QUERY;
+                name = rest.substring("query.".length());
+            } else if (rest.startsWith("path.")) {
+                source = Source.PATH;
+                name = rest.substring("path.".length());
+            } else {
+                throw invalid(expression);
+            }
+            if (name.isEmpty()) {
+                throw invalid(expression);
+            }
+            return new Term(response, source, name, null);
+        }
+
+        private static String[] parsePointer(String pointer, String expression) {
+            if (pointer.isEmpty()) {
+                return new String[0];
+            }
+            if (pointer.charAt(0) != '/') {
+                throw invalid(expression);
+            }
+            String[] tokens = pointer.substring(1).split("/", -1);
+            for (int i = 0; i < tokens.length; i++) {
+                tokens[i] = tokens[i].replace("~1", "/").replace("~0", "~");
+            }
+            return tokens;
+        }
+
+        private static IllegalArgumentException invalid(String expression) {
+            return new IllegalArgumentException("Invalid runtime expression: " + expression);
+        }
+
+        Object evaluate(Context context) {
+            switch (source) {
+                case URL :
+                    return context.getUrl();
+                case METHOD :
+                    return context.getMethod();
+                case STATUS_CODE :
+                    return context.getStatusCode();
+                case HEADER :
+                    return response ? context.getResponseHeader(name) : context.getRequestHeader(name);
+                case QUERY :
+                    return response ? context.getResponseQueryParameter(name)
+                            : context.getRequestQueryParameter(name);
+                case PATH :
+                    return response ? context.getResponsePathParameter(name) : context.getRequestPathParameter(name);
+                case BODY :
+                    Object body = response ? context.getResponseBody() : context.getRequestBody();
+                    return pointer == null ? body : select(body);
+                default :
+                    return null;
+            }
+        }
+
+        private Object select(Object value) {
+            for (String token : pointer) {
+                if (value instanceof Map) {
+                    value = ((Map<?, ?>) value).get(token);
+                } else if (value instanceof List) {
+                    List<?> list = (List<?>) value;
+                    int index = index(token);
+                    value = index >= 0 && index < list.size() ? list.get(index) : null;
+                } else {
+                    return null;
+                }
+            }
+            return value;
+        }
+
+        // Returns the array index denoted by a reference token, or -1 if it is not a valid index
+        private static int index(String token) {
+            if (token.isEmpty() || token.length() > 9 || (token.length() > 1 && token.charAt(0) == '0')) {
+                return -1;
+            }
+            for (int i = 0; i < token.length(); i++) {
+                if (token.charAt(i) < '0' || token.charAt(i) > '9') {
+                    return -1;
+                }
+            }
+            return Integer.parseInt(token);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Runtime expressions, as used by links and callbacks to refer to values of an HTTP request or response.
+ * <p>
+ * An expression is compiled once and can then be evaluated against any number of requests and responses without being
+ * parsed again. For example, to compute the URL of a callback:
+ *
+ * <pre>
+ * <code>RuntimeExpression url = RuntimeExpression.compile("{$request.body#/callbackUrl}/events");
+ * Object value = url.evaluate(context);
+ * </code>
+ * </pre>
+ *
+ * @see <a href="https://spec.openapis.org/oas/v3.1.0.html#runtime-expressions">OpenAPI Specification Runtime
+ *      Expressions</a>
+ */
+
+@org.osgi.annotation.versioning.Version("1.0")
+package org.eclipse.microprofile.openapi.expressions;
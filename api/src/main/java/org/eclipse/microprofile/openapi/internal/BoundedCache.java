@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.eclipse.microprofile.openapi.internal;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A thread-safe cache of compiled values, keyed by their source, which holds a bounded number of entries.
+ * <p>
+ * The cache does not track usage: when it is full, it is cleared before the next entry is added. This keeps lookups
+ * free of any bookkeeping, at the cost of compiling frequently used values again after the cache has been cleared.
+ * <p>
+ * This class is used by the compiled helpers of the model API and is not part of the API.
+ *
+ * @param <K>
+ *            the type of the sources
+ * @param <V>
+ *            the type of the compiled values
+ */
+public final class BoundedCache<K, V> {
+
+    /**
+     * The number of entries of the caches of the model API.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final int capacity;
+    private final Function<? super K, ? extends V> compiler;
+    private final Map<K, V> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a cache holding at most {@link #DEFAULT_CAPACITY} entries.
+     *
+     * @param compiler
+     *            the function which compiles a source, which must not return {@code null}
+     */
+    public BoundedCache(Function<? super K, ? extends V> compiler) {
+        this(DEFAULT_CAPACITY, compiler);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param capacity
+     *            the maximum number of entries
+     * @param compiler
+     *            the function which compiles a source, which must not return {@code null}
+     */
+    public BoundedCache(int capacity, Function<? super K, ? extends V> compiler) {
+        this.capacity = capacity;
+        this.compiler = Objects.requireNonNull(compiler);
+    }
+
+    /**
+     * Returns the compiled form of a source, compiling it if it is not in the cache.
+     *
+     * @param source
+     *            the source
+     * @return the compiled value
+     * @throws NullPointerException
+     *             if the source is {@code null}
+     * @throws RuntimeException
+     *             any exception thrown by the compiler, in which case nothing is added to the cache
+     */
+    public V get(K source) {
+        V value = entries.get(source);
+        if (value == null) {
+            value = compiler.apply(source);
+            if (entries.size() >= capacity) {
+                entries.clear();
+            }
+            entries.put(source, value);
+        }
+        return value;
+    }
+}
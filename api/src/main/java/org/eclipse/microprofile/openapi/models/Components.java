@@ -17,6 +17,7 @@
 
 package org.eclipse.microprofile.openapi.models;
 
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.callbacks.Callback;
@@ -535,4 +536,72 @@ public interface Components extends Constructible, Extensible<Components> {
      */
     void removePathItem(String name);
 
+    /**
+     * Returns the component identified by the given reference.
+     * <p>
+     * The reference must be a JSON pointer <a href="https://tools.ietf.org/html/rfc6901">RFC6901</a> in URI fragment
+     * form, which identifies an entry of one of the properties of this Components instance, e.g.
+     * {@code #/components/schemas/Pet}. The escape sequences {@code ~0} and {@code ~1}, as well as percent-encoded
+     * characters, are decoded in the component name.
+     * <p>
+     * Implementations are expected to serve this lookup in constant time, e.g. by maintaining an index of components
+     * by reference which is updated whenever a component is added or removed, rather than by copying the underlying
+     * maps.
+     *
+     * <pre>
+     * <code>Schema pet = (Schema) components.resolve("#/components/schemas/Pet");</code>
+     * </pre>
+     *
+     * @param ref
+     *            a reference to a component
+     * @return the referenced component, or {@code null} if the reference does not identify a component present in
+     *         this Components instance
+     * @since 4.1
+     */
+    default Constructible resolve(String ref) {
+        List<String> tokens = JsonPointer.parse(ref);
+        if (tokens == null || tokens.size() != 3 || !"components".equals(tokens.get(0))) {
+            return null;
+        }
+        Map<String, ? extends Constructible> map;
+        switch (tokens.get(1)) {
+            case "schemas" :
+                map = getSchemas();
+                break;
+            case "responses" :
+                map = getResponses();
+                break;
+            case "parameters" :
+                map = getParameters();
+                break;
+            case "examples" :
+                map = getExamples();
+                break;
+            case "requestBodies" :
+                map = getRequestBodies();
+                break;
+            case "headers" :
+                map = getHeaders();
+                break;
+            case "securitySchemes" :
+                map = getSecuritySchemes();
+                break;
+            case "links" :
+                map = getLinks();
+                break;
+            case "callbacks" :
+                map = getCallbacks();
+                break;
+            case "pathItems" :
+                map = getPathItems();
+                break;
+            default :
+                return null;
+        }
+        if (map == null) {
+            return null;
+        }
+        return map.get(tokens.get(2));
+    }
+
 }
\ No newline at end of file
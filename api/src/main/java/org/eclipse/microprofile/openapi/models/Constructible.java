@@ -18,9 +18,45 @@ package org.eclipse.microprofile.openapi.models;
 
 /**
  * Marker interface for OpenAPI model objects that can be constructed by the OASFactory.
+ * <p>
+ * Model objects have structural equality. Implementations must override {@link Object#equals(Object)} and
+ * {@link Object#hashCode()} so that two model objects are equal if, and only if, they implement the same model
+ * interface and all of their properties are equal. This includes extensions, the reference property of
+ * {@link Reference} objects and, for schemas, any property set through
+ * {@link org.eclipse.microprofile.openapi.models.media.Schema#set(String, Object) Schema.set}. Nested model objects,
+ * lists and maps are compared recursively.
+ * <p>
+ * Model objects are mutable, so the result of {@code hashCode()} changes when the object or any of its descendants is
+ * modified. Implementations may cache the hash code of an object, provided that the cached value is discarded whenever
+ * the object or any of its descendants is modified. A model object should not be modified while it is used as a key in
+ * a hash-based collection.
+ * <p>
+ * The result of {@code equals} and {@code hashCode} is undefined if a model object contains itself, directly or
+ * indirectly.
  *
  * @see org.eclipse.microprofile.openapi.OASFactory
  */
 public interface Constructible {
 
+    /**
+     * Checks whether this model object has been built, or whether it is a lazy placeholder for a part of a static
+     * OpenAPI document that has not been read yet.
+     * <p>
+     * When reading a large static document, implementations may represent subtrees such as schemas and path items
+     * with lazy objects which keep the source of the subtree and only build it on first access. Lazy objects must be
+     * indistinguishable from other model objects: calling any method other than this one, including
+     * {@code equals} and {@code hashCode}, first builds the subtree, after which this method returns {@code true}.
+     * <p>
+     * Consumers which only need the content of an unmodified subtree, such as a serializer writing the document in
+     * the format it was read from, can call this method to write the source of the subtree as-is rather than building
+     * it. Objects created by the {@link org.eclipse.microprofile.openapi.OASFactory} are always materialized.
+     *
+     * @return {@code true} if this object has been built, {@code false} if it is a lazy object which has not been
+     *         accessed yet
+     * @since 4.1
+     **/
+    default boolean isMaterialized() {
+        return true;
+    }
+
 }
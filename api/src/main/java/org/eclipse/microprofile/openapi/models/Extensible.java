@@ -18,6 +18,8 @@
 package org.eclipse.microprofile.openapi.models;
 
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
 
 /**
  * The base interface for OpenAPI model objects that can contain extensions. Extensions contain data not required by the
@@ -78,6 +80,8 @@ public interface Extensible<T extends Extensible<T>> {
 
     /**
      * Checks whether an extension with the given name is present in this Extensible's map of extensions.
+     * <p>
+     * Implementations must not copy the map for this lookup, see <em>Programming model</em> in the specification.
      *
      * @param name
      *            the key used to access the extension object. Always prefixed by "x-".
@@ -93,6 +97,8 @@ public interface Extensible<T extends Extensible<T>> {
 
     /**
      * Returns the extension object with the given name from this Extensible's map of extensions.
+     * <p>
+     * Implementations must not copy the map for this lookup, see <em>Programming model</em> in the specification.
      *
      * @param name
      *            the key used to access the extension object. Always prefixed by "x-".
@@ -106,4 +112,40 @@ public interface Extensible<T extends Extensible<T>> {
         return map.get(name);
     }
 
+    /**
+     * Checks whether this Extensible has at least one extension. This is a convenience method for
+     * <code>!getExtensions().isEmpty()</code>
+     * <p>
+     * Implementations should not create or copy the map for this check, see <em>Programming model</em> in the
+     * specification.
+     *
+     * @return {@code true} if this Extensible has at least one extension, otherwise {@code false}
+     * @since 4.1
+     **/
+    default boolean hasExtensions() {
+        Map<String, Object> map = getExtensions();
+        return map != null && !map.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each extension of this Extensible, in the iteration order of its map of
+     * extensions. This is a convenience method for <code>getExtensions().forEach(action)</code>
+     * <p>
+     * Implementations should not create or copy the map for this iteration, see <em>Programming model</em> in the
+     * specification.
+     *
+     * @param action
+     *            the action to perform for each extension, with the name and the value of the extension
+     * @throws NullPointerException
+     *             if the action is {@code null}
+     * @since 4.1
+     **/
+    default void forEachExtension(BiConsumer<String, Object> action) {
+        Objects.requireNonNull(action);
+        Map<String, Object> map = getExtensions();
+        if (map != null) {
+            map.forEach(action);
+        }
+    }
+
 }
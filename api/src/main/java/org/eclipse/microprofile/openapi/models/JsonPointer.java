@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.models;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parsing and formatting of JSON pointers (<a href="https://tools.ietf.org/html/rfc6901">RFC6901</a>) in URI fragment
+ * form, as used by the reference property of model objects, e.g. {@code #/components/schemas/Pet}.
+ */
+final class JsonPointer {
+
+    private JsonPointer() {
+    }
+
+    /**
+     * Splits a reference to a location in the current document into its unescaped reference tokens.
+     *
+     * @param ref
+     *            a reference such as {@code #/paths/~1pets~1{id}}
+     * @return the reference tokens, e.g. {@code ["paths", "/pets/{id}"]}, or {@code null} if the reference is
+     *         {@code null} or is not a JSON pointer into the current document
+     */
+    static List<String> parse(String ref) {
+        if (ref == null || !ref.startsWith("#/")) {
+            return null;
+        }
+        List<String> tokens = new ArrayList<>();
+        int start = 2;
+        while (true) {
+            int end = ref.indexOf('/', start);
+            String token = unescape(ref.substring(start, end < 0 ? ref.length() : end));
+            if (token == null) {
+                return null;
+            }
+            tokens.add(token);
+            if (end < 0) {
+                return tokens;
+            }
+            start = end + 1;
+        }
+    }
+
+    /**
+     * Builds a reference to a location in the current document from the given unescaped reference tokens.
+     *
+     * @param tokens
+     *            the reference tokens
+     * @return the reference, e.g. {@code #/paths/~1pets~1{id}}
+     */
+    static String format(List<String> tokens) {
+        StringBuilder sb = new StringBuilder("#");
+        for (String token : tokens) {
+            sb.append('/').append(escape(token));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Escapes a single reference token, replacing {@code ~} with {@code ~0} and {@code /} with {@code ~1}.
+     *
+     * @param token
+     *            the unescaped token
+     * @return the escaped token
+     */
+    static String escape(String token) {
+        if (token.indexOf('~') < 0 && token.indexOf('/') < 0) {
+            return token;
+        }
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static String unescape(String token) {
+        if (token.indexOf('%') >= 0) {
+            token = percentDecode(token);
+            if (token == null) {
+                return null;
+            }
+        }
+        if (token.indexOf('~') < 0) {
+            return token;
+        }
+        StringBuilder sb = new StringBuilder(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c != '~') {
+                sb.append(c);
+                continue;
+            }
+            char next = i + 1 < token.length() ? token.charAt(++i) : 0;
+            if (next == '0') {
+                sb.append('~');
+            } else if (next == '1') {
+                sb.append('/');
+            } else {
+                return null;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String percentDecode(String token) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '%') {
+                if (i + 2 >= token.length()) {
+                    return null;
+                }
+                int hi = Character.digit(token.charAt(i + 1), 16);
+                int lo = Character.digit(token.charAt(i + 2), 16);
+                if (hi < 0 || lo < 0) {
+                    return null;
+                }
+                out.write((hi << 4) | lo);
+                i += 2;
+            } else {
+                int end = token.indexOf('%', i);
+                if (end < 0) {
+                    end = token.length();
+                }
+                byte[] bytes = token.substring(i, end).getBytes(StandardCharsets.UTF_8);
+                out.write(bytes, 0, bytes.length);
+                i = end - 1;
+            }
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
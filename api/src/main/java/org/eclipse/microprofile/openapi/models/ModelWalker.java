@@ -0,0 +1,338 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.info.Info;
+import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.Encoding;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
+import org.eclipse.microprofile.openapi.models.security.OAuthFlows;
+import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+
+/**
+ * Walks an OpenAPI model tree, passing each model object to a visitor along with the reference tokens of its location
+ * in the document. Used by the default implementations of the lookup methods of the model interfaces.
+ * <p>
+ * The visitor receives the model object before any of its descendants. The list of reference tokens is only valid for
+ * the duration of the call to the visitor. A model object which contains itself is not walked a second time.
+ */
+final class ModelWalker {
+
+    private final BiConsumer<Constructible, List<String>> visitor;
+    private final List<String> location = new ArrayList<>();
+    private final Set<Object> ancestors = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private ModelWalker(BiConsumer<Constructible, List<String>> visitor) {
+        this.visitor = visitor;
+    }
+
+    /**
+     * Walks the given OpenAPI model tree.
+     *
+     * @param openAPI
+     *            the root of the model tree
+     * @param visitor
+     *            receives each model object and the reference tokens of its location
+     */
+    static void walk(OpenAPI openAPI, BiConsumer<Constructible, List<String>> visitor) {
+        new ModelWalker(visitor).openAPI(openAPI);
+    }
+
+    private boolean enter(String token, Constructible node) {
+        if (node == null || !ancestors.add(node)) {
+            return false;
+        }
+        location.add(token);
+        visitor.accept(node, location);
+        return true;
+    }
+
+    private void exit(Constructible node) {
+        location.remove(location.size() - 1);
+        ancestors.remove(node);
+    }
+
+    private void openAPI(OpenAPI openAPI) {
+        if (openAPI == null) {
+            return;
+        }
+        ancestors.add(openAPI);
+        visitor.accept(openAPI, location);
+        info(openAPI.getInfo());
+        leaf("externalDocs", openAPI.getExternalDocs());
+        servers(openAPI.getServers());
+        security(openAPI.getSecurity());
+        List<Tag> tags = openAPI.getTags();
+        if (tags != null) {
+            location.add("tags");
+            for (int i = 0; i < tags.size(); i++) {
+                Tag tag = tags.get(i);
+                if (enter(Integer.toString(i), tag)) {
+                    leaf("externalDocs", tag.getExternalDocs());
+                    exit(tag);
+                }
+            }
+            location.remove(location.size() - 1);
+        }
+        Paths paths = openAPI.getPaths();
+        if (enter("paths", paths)) {
+            Map<String, PathItem> items = paths.getPathItems();
+            if (items != null) {
+                items.forEach(this::pathItem);
+            }
+            exit(paths);
+        }
+        Map<String, PathItem> webhooks = openAPI.getWebhooks();
+        if (webhooks != null) {
+            location.add("webhooks");
+            webhooks.forEach(this::pathItem);
+            location.remove(location.size() - 1);
+        }
+        components(openAPI.getComponents());
+    }
+
+    private void info(Info info) {
+        if (enter("info", info)) {
+            leaf("contact", info.getContact());
+            leaf("license", info.getLicense());
+            exit(info);
+        }
+    }
+
+    private void leaf(String token, Constructible node) {
+        if (enter(token, node)) {
+            exit(node);
+        }
+    }
+
+    private void components(Components components) {
+        if (!enter("components", components)) {
+            return;
+        }
+        map("schemas", components.getSchemas(), this::schema);
+        map("responses", components.getResponses(), this::response);
+        map("parameters", components.getParameters(), this::parameter);
+        map("examples", components.getExamples(), this::leaf);
+        map("requestBodies", components.getRequestBodies(), this::requestBody);
+        map("headers", components.getHeaders(), this::header);
+        map("securitySchemes", components.getSecuritySchemes(), this::securityScheme);
+        map("links", components.getLinks(), this::link);
+        map("callbacks", components.getCallbacks(), this::callback);
+        map("pathItems", components.getPathItems(), this::pathItem);
+        exit(components);
+    }
+
+    private <T> void map(String token, Map<String, T> map, BiConsumer<String, T> action) {
+        if (map != null) {
+            location.add(token);
+            map.forEach(action);
+            location.remove(location.size() - 1);
+        }
+    }
+
+    private <T> void list(String token, List<T> list, BiConsumer<String, T> action) {
+        if (list != null) {
+            location.add(token);
+            for (int i = 0; i < list.size(); i++) {
+                action.accept(Integer.toString(i), list.get(i));
+            }
+            location.remove(location.size() - 1);
+        }
+    }
+
+    private void servers(List<Server> servers) {
+        list("servers", servers, (token, server) -> {
+            if (enter(token, server)) {
+                map("variables", server.getVariables(), this::leaf);
+                exit(server);
+            }
+        });
+    }
+
+    private void security(List<SecurityRequirement> security) {
+        list("security", security, this::leaf);
+    }
+
+    private void pathItem(String token, PathItem pathItem) {
+        if (!enter(token, pathItem)) {
+            return;
+        }
+        servers(pathItem.getServers());
+        list("parameters", pathItem.getParameters(), this::parameter);
+        pathItem.forEachOperation((method, operation) -> operation(method.name().toLowerCase(Locale.ROOT), operation));
+        exit(pathItem);
+    }
+
+    private void operation(String token, Operation operation) {
+        if (!enter(token, operation)) {
+            return;
+        }
+        leaf("externalDocs", operation.getExternalDocs());
+        list("parameters", operation.getParameters(), this::parameter);
+        requestBody("requestBody", operation.getRequestBody());
+        APIResponses responses = operation.getResponses();
+        if (enter("responses", responses)) {
+            Map<String, APIResponse> map = responses.getAPIResponses();
+            if (map != null) {
+                map.forEach(this::response);
+            }
+            exit(responses);
+        }
+        map("callbacks", operation.getCallbacks(), this::callback);
+        security(operation.getSecurity());
+        servers(operation.getServers());
+        exit(operation);
+    }
+
+    private void callback(String token, Callback callback) {
+        if (enter(token, callback)) {
+            Map<String, PathItem> items = callback.getPathItems();
+            if (items != null) {
+                items.forEach(this::pathItem);
+            }
+            exit(callback);
+        }
+    }
+
+    private void parameter(String token, Parameter parameter) {
+        if (enter(token, parameter)) {
+            schema("schema", parameter.getSchema());
+            map("examples", parameter.getExamples(), this::leaf);
+            content(parameter.getContent());
+            exit(parameter);
+        }
+    }
+
+    private void header(String token, Header header) {
+        if (enter(token, header)) {
+            schema("schema", header.getSchema());
+            map("examples", header.getExamples(), this::leaf);
+            content(header.getContent());
+            exit(header);
+        }
+    }
+
+    private void requestBody(String token, RequestBody requestBody) {
+        if (enter(token, requestBody)) {
+            content(requestBody.getContent());
+            exit(requestBody);
+        }
+    }
+
+    private void response(String token, APIResponse response) {
+        if (enter(token, response)) {
+            map("headers", response.getHeaders(), this::header);
+            content(response.getContent());
+            map("links", response.getLinks(), this::link);
+            exit(response);
+        }
+    }
+
+    private void link(String token, Link link) {
+        if (enter(token, link)) {
+            if (enter("server", link.getServer())) {
+                map("variables", link.getServer().getVariables(), this::leaf);
+                exit(link.getServer());
+            }
+            exit(link);
+        }
+    }
+
+    private void securityScheme(String token, SecurityScheme securityScheme) {
+        if (enter(token, securityScheme)) {
+            OAuthFlows flows = securityScheme.getFlows();
+            if (enter("flows", flows)) {
+                leaf("implicit", flows.getImplicit());
+                leaf("password", flows.getPassword());
+                leaf("clientCredentials", flows.getClientCredentials());
+                leaf("authorizationCode", flows.getAuthorizationCode());
+                exit(flows);
+            }
+            exit(securityScheme);
+        }
+    }
+
+    private void content(Content content) {
+        if (!enter("content", content)) {
+            return;
+        }
+        Map<String, MediaType> mediaTypes = content.getMediaTypes();
+        if (mediaTypes != null) {
+            mediaTypes.forEach((token, mediaType) -> {
+                if (enter(token, mediaType)) {
+                    schema("schema", mediaType.getSchema());
+                    map("examples", mediaType.getExamples(), this::leaf);
+                    map("encoding", mediaType.getEncoding(), this::encoding);
+                    exit(mediaType);
+                }
+            });
+        }
+        exit(content);
+    }
+
+    private void encoding(String token, Encoding encoding) {
+        if (enter(token, encoding)) {
+            map("headers", encoding.getHeaders(), this::header);
+            exit(encoding);
+        }
+    }
+
+    private void schema(String token, Schema schema) {
+        if (enter(token, schema)) {
+            Map<String, ?> properties = schema.getAll();
+            if (properties != null) {
+                properties.forEach(this::schemaValue);
+            }
+            exit(schema);
+        }
+    }
+
+    // Walks any property of a schema, so that schemas nested within properties of other schema dialects are found
+    private void schemaValue(String token, Object value) {
+        if (value instanceof Schema) {
+            schema(token, (Schema) value);
+        } else if (value instanceof Constructible) {
+            leaf(token, (Constructible) value);
+        } else if (value instanceof List) {
+            list(token, (List<?>) value, this::schemaValue);
+        } else if (value instanceof Map) {
+            location.add(token);
+            ((Map<?, ?>) value).forEach((key, v) -> schemaValue(String.valueOf(key), v));
+            location.remove(location.size() - 1);
+        }
+    }
+}
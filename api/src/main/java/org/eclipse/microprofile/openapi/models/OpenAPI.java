@@ -17,10 +17,16 @@
 
 package org.eclipse.microprofile.openapi.models;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.microprofile.openapi.models.info.Info;
+import org.eclipse.microprofile.openapi.models.media.Discriminator;
 import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
 import org.eclipse.microprofile.openapi.models.servers.Server;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
@@ -249,6 +255,31 @@ public interface OpenAPI extends Constructible, Extensible<OpenAPI> {
      */
     void removeTag(Tag tag);
 
+    /**
+     * Returns the tag with the given name from this OpenAPI instance's list of tags.
+     * <p>
+     * The default implementation searches the list returned by {@link #getTags()}. Implementations should maintain an
+     * index of the tags by name, updated whenever the tags are modified, so that this lookup is performed in constant
+     * time.
+     *
+     * @param name
+     *            the name of the tag
+     * @return the first tag with the given name, or {@code null} if there is none
+     * @since 4.1
+     */
+    default Tag getTag(String name) {
+        List<Tag> tags = getTags();
+        if (tags == null || name == null) {
+            return null;
+        }
+        for (Tag tag : tags) {
+            if (tag != null && name.equals(tag.getName())) {
+                return tag;
+            }
+        }
+        return null;
+    }
+
     /**
      * Returns the paths property from an OpenAPI instance.
      *
@@ -384,4 +415,219 @@ public interface OpenAPI extends Constructible, Extensible<OpenAPI> {
         return this;
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns the object identified by the given reference within this OpenAPI document.
+     * <p>
+     * The reference must be a JSON pointer <a href="https://tools.ietf.org/html/rfc6901">RFC6901</a> in URI fragment
+     * form. The escape sequences {@code ~0} and {@code ~1}, as well as percent-encoded characters, are decoded in each
+     * reference token. The following references are supported:
+     * <ul>
+     * <li>a component, e.g. {@code #/components/schemas/Pet}, as returned by {@link Components#resolve(String)}</li>
+     * <li>a path item, e.g. {@code #/paths/~1pets~1{id}}</li>
+     * <li>an operation of a path item, e.g. {@code #/paths/~1pets~1{id}/get}</li>
+     * <li>a webhook, e.g. {@code #/webhooks/newPet}</li>
+     * </ul>
+     * <p>
+     * Implementations are expected to serve this lookup in constant time, e.g. by maintaining an index which is updated
+     * whenever the model is modified, rather than by walking the model or copying the underlying maps.
+     *
+     * @param ref
+     *            a reference to an object within this OpenAPI document
+     * @return the referenced object, or {@code null} if the reference is not supported or does not identify an object
+     *         present in this OpenAPI document
+     * @since 4.1
+     */
+    default Constructible resolve(String ref) {
+        List<String> tokens = JsonPointer.parse(ref);
+        if (tokens == null || tokens.size() < 2) {
+            return null;
+        }
+        switch (tokens.get(0)) {
+            case "components" :
+                Components components = getComponents();
+                return components == null ? null : components.resolve(ref);
+            case "paths" :
+                Paths paths = getPaths();
+                if (paths == null || tokens.size() > 3) {
+                    return null;
+                }
+                PathItem pathItem = paths.getPathItem(tokens.get(1));
+                if (pathItem == null || tokens.size() == 2) {
+                    return pathItem;
+                }
+                for (PathItem.HttpMethod method : PathTemplate.METHODS) {
+                    if (method.name().equalsIgnoreCase(tokens.get(2))) {
+                        return PathTemplate.operation(pathItem, method);
+                    }
+                }
+                return null;
+            case "webhooks" :
+                Map<String, PathItem> webhooks = getWebhooks();
+                if (webhooks == null || tokens.size() != 2) {
+                    return null;
+                }
+                return webhooks.get(tokens.get(1));
+            default :
+                return null;
+        }
+    }
+
+    /**
+     * Returns every location within this OpenAPI document which refers to the object identified by the given
+     * reference.
+     * <p>
+     * The following model objects are considered to refer to the object identified by {@code ref}:
+     * <ul>
+     * <li>a {@link Reference} object whose reference property identifies the same location as {@code ref}, after
+     * decoding of escaped and percent-encoded characters</li>
+     * <li>a {@link Discriminator} with a mapping value which is either a reference to the same location or, for a
+     * reference to {@code #/components/schemas/{name}}, the schema name itself</li>
+     * <li>a {@link SecurityRequirement} which names the security scheme, for a reference to
+     * {@code #/components/securitySchemes/{name}}</li>
+     * </ul>
+     * <p>
+     * The keys of the returned map are references to the locations of the referring objects, e.g.
+     * {@code #/paths/~1pets/get/responses/200/content/application~1json/schema}, in the order in which they appear in
+     * the document. Extensions are not searched.
+     * <p>
+     * The default implementation walks the entire model. Implementations should maintain a reverse index of
+     * references, updated whenever the model is modified, so that this lookup does not depend on the size of the
+     * document.
+     *
+     * @param ref
+     *            a reference to an object within this OpenAPI document, e.g. {@code #/components/schemas/Pet}
+     * @return a map from the location of each referring object to that object, empty if there are none or if
+     *         {@code ref} is not a reference into the current document
+     * @since 4.1
+     */
+    default Map<String, Constructible> findReferences(String ref) {
+        List<String> target = JsonPointer.parse(ref);
+        Map<String, Constructible> result = new LinkedHashMap<>();
+        if (target == null) {
+            return result;
+        }
+        String schemaName = null;
+        String securitySchemeName = null;
+        if (target.size() == 3 && target.get(0).equals("components")) {
+            if (target.get(1).equals("schemas")) {
+                schemaName = target.get(2);
+            } else if (target.get(1).equals("securitySchemes")) {
+                securitySchemeName = target.get(2);
+            }
+        }
+        String mappedName = schemaName;
+        String schemeName = securitySchemeName;
+        ModelWalker.walk(this, (node, location) -> {
+            boolean found = false;
+            if (node instanceof Reference) {
+                found = target.equals(JsonPointer.parse(((Reference<?>) node).getRef()));
+            }
+            if (node instanceof Discriminator) {
+                Map<String, String> mapping = ((Discriminator) node).getMapping();
+                if (mapping != null) {
+                    for (String value : mapping.values()) {
+                        if (value != null && (value.equals(mappedName) || target.equals(JsonPointer.parse(value)))) {
+                            found = true;
+                        }
+                    }
+                }
+            }
+            if (node instanceof SecurityRequirement && schemeName != null) {
+                found = ((SecurityRequirement) node).hasScheme(schemeName);
+            }
+            if (found) {
+                result.put(JsonPointer.format(location), node);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns the operation with the given operationId.
+     * <p>
+     * The operations of the path items in {@link #getPaths() paths} and {@link #getWebhooks() webhooks} are searched,
+     * including the operations of any callbacks defined within them, at any depth. Operations which are only defined in
+     * the {@link #getComponents() components} are not searched. If more than one operation has the given operationId,
+     * which is not permitted by the OpenAPI specification, the first one in document order is returned; see
+     * {@link #findDuplicateOperationIds()}.
+     * <p>
+     * The default implementation walks the model. Implementations should maintain an index of operations by
+     * operationId, updated whenever the model is modified, so that this lookup is performed in constant time.
+     *
+     * @param operationId
+     *            the operationId of the operation to find
+     * @return the operation with the given operationId, or {@code null} if there is none
+     * @since 4.1
+     */
+    default Operation findOperation(String operationId) {
+        Operation[] result = new Operation[1];
+        if (operationId != null) {
+            ModelWalker.walk(this, (node, location) -> {
+                if (result[0] == null && node instanceof Operation && !location.get(0).equals("components")
+                        && operationId.equals(((Operation) node).getOperationId())) {
+                    result[0] = (Operation) node;
+                }
+            });
+        }
+        return result[0];
+    }
+
+    /**
+     * Returns the operationIds which are used by more than one operation.
+     * <p>
+     * The OpenAPI specification requires operationIds to be unique among all operations described in the document.
+     * The same operations are considered as for {@link #findOperation(String)}.
+     *
+     * @return the operationIds which are not unique, in document order, or an empty set if all operationIds are
+     *         unique
+     * @since 4.1
+     */
+    default Set<String> findDuplicateOperationIds() {
+        Set<String> seen = new HashSet<>();
+        Set<String> result = new LinkedHashSet<>();
+        ModelWalker.walk(this, (node, location) -> {
+            if (node instanceof Operation && !location.get(0).equals("components")) {
+                String operationId = ((Operation) node).getOperationId();
+                if (operationId != null && !seen.add(operationId)) {
+                    result.add(operationId);
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns the operations which are tagged with the given tag name.
+     * <p>
+     * The same operations are considered as for {@link #findOperation(String)}. A tag name listed by an operation does
+     * not need to be declared in the {@link #getTags() tags} of this OpenAPI instance.
+     * <p>
+     * The default implementation walks the model. Implementations should maintain an index of operations by tag name,
+     * so that this lookup does not depend on the size of the document. The index must be kept in sync with the model:
+     * it must reflect operations added to or removed from the paths, webhooks and callbacks of this OpenAPI instance,
+     * and tags added to or removed from those operations. Since an operation does not know the OpenAPI instance which
+     * contains it, implementations may, for example, discard the index whenever an object of the model is modified
+     * and rebuild it on the next call.
+     *
+     * @param tagName
+     *            the name of the tag
+     * @return a new list of the operations tagged with the given name, in document order, or an empty list if there
+     *         are none
+     * @since 4.1
+     */
+    default List<Operation> findOperationsByTag(String tagName) {
+        List<Operation> result = new ArrayList<>();
+        if (tagName != null) {
+            ModelWalker.walk(this, (node, location) -> {
+                if (node instanceof Operation && !location.get(0).equals("components")) {
+                    List<String> tags = ((Operation) node).getTags();
+                    if (tags != null && tags.contains(tagName)) {
+                        result.add((Operation) node);
+                    }
+                }
+            });
+        }
+        return result;
+    }
+
+}
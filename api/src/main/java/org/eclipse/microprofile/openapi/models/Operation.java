@@ -233,6 +233,39 @@ public interface Operation extends Constructible, Extensible<Operation> {
      **/
     void removeParameter(Parameter parameter);
 
+    /**
+     * Returns the parameter of this Operation with the given name and location.
+     * <p>
+     * Header parameter names are compared ignoring case, other parameter names are compared exactly. Parameters
+     * defined by reference are not resolved, so only match if their name and location are set.
+     * <p>
+     * The default implementation searches the list returned by {@link #getParameters()}. Implementations should
+     * maintain an index of the parameters by name and location, updated whenever the parameters are modified, so that
+     * this lookup does not depend on the number of parameters.
+     *
+     * @param name
+     *            the name of the parameter
+     * @param in
+     *            the location of the parameter
+     * @return the first parameter with the given name and location, or {@code null} if there is none
+     * @since 4.1
+     **/
+    default Parameter getParameter(String name, Parameter.In in) {
+        List<Parameter> parameters = getParameters();
+        if (parameters == null || name == null || in == null) {
+            return null;
+        }
+        for (Parameter parameter : parameters) {
+            if (parameter != null && parameter.getIn() == in) {
+                String parameterName = parameter.getName();
+                if (in == Parameter.In.HEADER ? name.equalsIgnoreCase(parameterName) : name.equals(parameterName)) {
+                    return parameter;
+                }
+            }
+        }
+        return null;
+    }
+
     /**
      * Returns the requestBody property from an Operation instance.
      *
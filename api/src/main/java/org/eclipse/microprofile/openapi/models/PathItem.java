@@ -19,6 +19,8 @@ package org.eclipse.microprofile.openapi.models;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
 
 import org.eclipse.microprofile.openapi.models.parameters.Parameter;
 import org.eclipse.microprofile.openapi.models.servers.Server;
@@ -339,6 +341,48 @@ public interface PathItem extends Constructible, Extensible<PathItem>, Reference
      */
     void setOperation(PathItem.HttpMethod httpMethod, Operation operation);
 
+    /**
+     * Performs the given action for each operation of this path, in the order of the {@link PathItem.HttpMethod}
+     * constants.
+     * <p>
+     * Unlike {@link #getOperations()}, this method must not create a map. The default implementation calls the getter
+     * of each HTTP method in turn. Implementations which store operations in an {@link java.util.EnumMap} should
+     * iterate over it directly.
+     *
+     * @param action
+     *            the action to perform for each HTTP method which has an operation, with the HTTP method and the
+     *            operation
+     * @throws NullPointerException
+     *             if the action is {@code null}
+     * @since 4.1
+     **/
+    default void forEachOperation(BiConsumer<PathItem.HttpMethod, Operation> action) {
+        Objects.requireNonNull(action, "action");
+        for (PathItem.HttpMethod method : PathTemplate.METHODS) {
+            Operation operation = PathTemplate.operation(this, method);
+            if (operation != null) {
+                action.accept(method, operation);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of operations of this path. This is the size of the map returned by {@link #getOperations()},
+     * without creating the map.
+     *
+     * @return the number of HTTP methods which have an operation
+     * @since 4.1
+     **/
+    default int operationCount() {
+        int count = 0;
+        for (PathItem.HttpMethod method : PathTemplate.METHODS) {
+            if (PathTemplate.operation(this, method) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * Returns the servers property from a PathItem instance.
      *
@@ -428,4 +472,37 @@ public interface PathItem extends Constructible, Extensible<PathItem>, Reference
      **/
     void removeParameter(Parameter parameter);
 
+    /**
+     * Returns the parameter of this PathItem with the given name and location.
+     * <p>
+     * Header parameter names are compared ignoring case, other parameter names are compared exactly. Parameters
+     * defined by reference are not resolved, so only match if their name and location are set.
+     * <p>
+     * The default implementation searches the list returned by {@link #getParameters()}. Implementations should
+     * maintain an index of the parameters by name and location, updated whenever the parameters are modified, so that
+     * this lookup does not depend on the number of parameters.
+     *
+     * @param name
+     *            the name of the parameter
+     * @param in
+     *            the location of the parameter
+     * @return the first parameter with the given name and location, or {@code null} if there is none
+     * @since 4.1
+     **/
+    default Parameter getParameter(String name, Parameter.In in) {
+        List<Parameter> parameters = getParameters();
+        if (parameters == null || name == null || in == null) {
+            return null;
+        }
+        for (Parameter parameter : parameters) {
+            if (parameter != null && parameter.getIn() == in) {
+                String parameterName = parameter.getName();
+                if (in == Parameter.In.HEADER ? name.equalsIgnoreCase(parameterName) : name.equals(parameterName)) {
+                    return parameter;
+                }
+            }
+        }
+        return null;
+    }
+
 }
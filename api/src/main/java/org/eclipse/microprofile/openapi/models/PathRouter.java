@@ -0,0 +1,216 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.models;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A route table mapping concrete request paths, e.g. {@code /bookings/42}, to path templates, e.g.
+ * {@code /bookings/{id}}, and their targets.
+ * <p>
+ * Path templates are compiled once, when they are added, and stored in a trie of segments, so that the cost of
+ * routing a request depends on the length of its path rather than on the number of path templates. Templates are
+ * chosen as described by {@link Paths#match(String, PathItem.HttpMethod) Paths.match}: a literal segment is more
+ * specific than a segment mixing literal text with parameters, which is more specific than a segment consisting of a
+ * single parameter, comparing segments from left to right. Of equally specific templates, the one added first is
+ * chosen.
+ * <p>
+ * Implementations of {@link Paths} can hold a route table of their path items, discarded whenever the path items are
+ * modified, to serve {@link Paths#match(String, PathItem.HttpMethod) Paths.match}. Consumers which route many
+ * requests, such as request validators, can build their own route table once, with targets of their choice.
+ * <p>
+ * A route table must not be modified while it is used by other threads. Once all path templates have been added, it
+ * can be used to route requests concurrently.
+ *
+ * @param <T>
+ *            the type of the targets of the routes
+ * @since 4.1
+ */
+public final class PathRouter<T> {
+
+    /**
+     * The result of routing a concrete request path.
+     *
+     * @param <T>
+     *            the type of the target
+     */
+    public static final class Route<T> {
+        private final String pathTemplate;
+        private final T target;
+        private final Map<String, String> pathParameters;
+
+        private Route(String pathTemplate, T target, Map<String, String> pathParameters) {
+            this.pathTemplate = pathTemplate;
+            this.target = target;
+            this.pathParameters = pathParameters;
+        }
+
+        /**
+         * Returns the path template which matched, e.g. {@code /bookings/{id}}.
+         *
+         * @return the path template
+         */
+        public String getPathTemplate() {
+            return pathTemplate;
+        }
+
+        /**
+         * Returns the target of the path template which matched.
+         *
+         * @return the target
+         */
+        public T getTarget() {
+            return target;
+        }
+
+        /**
+         * Returns the values of the path parameters, keyed by parameter name, as they appear in the request path.
+         *
+         * @return the values of the path parameters, e.g. {@code {id=42}}
+         */
+        public Map<String, String> getPathParameters() {
+            return pathParameters;
+        }
+    }
+
+    // A path template stored at the node of its last segment
+    private static final class Entry<T> {
+        private final PathTemplate template;
+        private final T target;
+        // The order in which the template was added, which decides between equally specific templates
+        private final int order;
+
+        private Entry(PathTemplate template, T target, int order) {
+            this.template = template;
+            this.target = target;
+            this.order = order;
+        }
+    }
+
+    private static final class Node<T> {
+        private final Map<String, Node<T>> literals = new HashMap<>();
+        // Segments mixing literal text and parameters, keyed by their text, in the order they were added
+        private final Map<String, Node<T>> mixed = new LinkedHashMap<>();
+        private Node<T> parameter;
+        // The pattern of a node of a segment mixing literal text and parameters
+        private Pattern pattern;
+        private Entry<T> entry;
+    }
+
+    private final Node<T> root = new Node<>();
+    private int size;
+
+    /**
+     * Adds a path template to this route table.
+     *
+     * @param pathTemplate
+     *            the path template, e.g. {@code /bookings/{id}}. A template which is {@code null} or does not begin
+     *            with a slash is ignored, as it never matches.
+     * @param target
+     *            the target of the path template
+     * @return the path template added before which only differs from the given one by the names of its parameters,
+     *         e.g. {@code /bookings/{bookingId}}, in which case the given template is not added, or {@code null}
+     */
+    public String add(String pathTemplate, T target) {
+        if (pathTemplate == null || !pathTemplate.startsWith("/")) {
+            return null;
+        }
+        PathTemplate template = new PathTemplate(pathTemplate);
+        Node<T> node = root;
+        for (int i = 0; i < template.segmentCount(); i++) {
+            switch (template.rank(i)) {
+                case PathTemplate.LITERAL :
+                    node = node.literals.computeIfAbsent(template.segment(i), key -> new Node<>());
+                    break;
+                case PathTemplate.PARAMETER :
+                    if (node.parameter == null) {
+                        node.parameter = new Node<>();
+                    }
+                    node = node.parameter;
+                    break;
+                default :
+                    node = node.mixed.computeIfAbsent(template.segment(i), key -> new Node<>());
+                    node.pattern = template.pattern(i);
+            }
+        }
+        if (node.entry != null) {
+            return node.entry.template.source();
+        }
+        node.entry = new Entry<>(template, target, size++);
+        return null;
+    }
+
+    /**
+     * Finds the most specific path template matching a concrete request path.
+     *
+     * @param path
+     *            the request path, e.g. {@code /bookings/42}, relative to the URL of the server and without query
+     *            string
+     * @return the route, or {@code null} if no path template matches
+     */
+    public Route<T> route(String path) {
+        if (path == null || !path.startsWith("/")) {
+            return null;
+        }
+        String[] segments = path.substring(1).split("/", -1);
+        Entry<T> entry = find(root, segments, 0);
+        if (entry == null) {
+            return null;
+        }
+        return new Route<>(entry.template.source(), entry.target, entry.template.parameters(segments));
+    }
+
+    private Entry<T> find(Node<T> node, String[] segments, int index) {
+        if (index == segments.length) {
+            return node.entry;
+        }
+        String segment = segments[index];
+        // A literal segment is more specific than any other, whatever the following segments
+        Node<T> literal = node.literals.get(segment);
+        if (literal != null) {
+            Entry<T> found = find(literal, segments, index + 1);
+            if (found != null) {
+                return found;
+            }
+        }
+        if (segment.isEmpty()) {
+            return null;
+        }
+        Entry<T> best = null;
+        for (Node<T> mixed : node.mixed.values()) {
+            if (mixed.pattern.matcher(segment).matches()) {
+                Entry<T> found = find(mixed, segments, index + 1);
+                if (found != null && (best == null || compare(found, best, index + 1) > 0)) {
+                    best = found;
+                }
+            }
+        }
+        if (best != null || node.parameter == null) {
+            return best;
+        }
+        return find(node.parameter, segments, index + 1);
+    }
+
+    // Compares the segments of two entries from the given index, then the order in which they were added
+    private static int compare(Entry<?> entry, Entry<?> other, int from) {
+        int result = entry.template.compareTo(other.template, from);
+        return result != 0 ? result : Integer.compare(other.order, entry.order);
+    }
+}
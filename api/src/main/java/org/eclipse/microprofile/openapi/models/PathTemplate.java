@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.models;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A compiled path template of a Paths object, e.g. {@code /pets/{id}}, which is matched against concrete request
+ * paths, e.g. {@code /pets/42}. Templates are compiled once, when they are added to a {@link PathRouter}.
+ */
+final class PathTemplate {
+
+    static final int PARAMETER = 0;
+    static final int MIXED = 1;
+    static final int LITERAL = 2;
+
+    // The HTTP methods, without the copy made by each call to values()
+    static final PathItem.HttpMethod[] METHODS = PathItem.HttpMethod.values();
+
+    private final String source;
+    private final String[] segments;
+    private final int[] ranks;
+    // The parameter name of each parameter segment
+    private final String[] parameterNames;
+    // The pattern and parameter names of each segment mixing literal text and parameters
+    private final Pattern[] patterns;
+    private final String[][] names;
+
+    /**
+     * Compiles a path template.
+     *
+     * @param source
+     *            the path template, which must begin with a slash
+     */
+    PathTemplate(String source) {
+        this.source = source;
+        this.segments = source.substring(1).split("/", -1);
+        this.ranks = new int[segments.length];
+        this.parameterNames = new String[segments.length];
+        this.patterns = new Pattern[segments.length];
+        this.names = new String[segments.length][];
+        for (int i = 0; i < segments.length; i++) {
+            compileSegment(i, segments[i]);
+        }
+    }
+
+    private void compileSegment(int index, String segment) {
+        int open = segment.indexOf('{');
+        if (open < 0) {
+            ranks[index] = LITERAL;
+            return;
+        }
+        int close = segment.indexOf('}', open);
+        if (open == 0 && close == segment.length() - 1) {
+            ranks[index] = PARAMETER;
+            parameterNames[index] = segment.substring(1, close);
+            return;
+        }
+        // A segment mixing literal text and parameters, e.g. "{name}.{extension}"
+        StringBuilder regex = new StringBuilder();
+        List<String> mixedNames = new ArrayList<>();
+        int start = 0;
+        while (open >= 0 && close > open) {
+            regex.append(Pattern.quote(segment.substring(start, open))).append("(.+?)");
+            mixedNames.add(segment.substring(open + 1, close));
+            start = close + 1;
+            open = segment.indexOf('{', start);
+            close = open < 0 ? -1 : segment.indexOf('}', open);
+        }
+        regex.append(Pattern.quote(segment.substring(start)));
+        ranks[index] = MIXED;
+        patterns[index] = Pattern.compile(regex.toString());
+        names[index] = mixedNames.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the operation of the given path item for the given HTTP method, without copying the operations map.
+     *
+     * @param pathItem
+     *            the path item, may be {@code null}
+     * @param method
+     *            the HTTP method, may be {@code null}
+     * @return the operation, or {@code null} if there is none
+     */
+    static Operation operation(PathItem pathItem, PathItem.HttpMethod method) {
+        if (pathItem == null || method == null) {
+            return null;
+        }
+        switch (method) {
+            case GET :
+                return pathItem.getGET();
+            case PUT :
+                return pathItem.getPUT();
+            case POST :
+                return pathItem.getPOST();
+            case DELETE :
+                return pathItem.getDELETE();
+            case OPTIONS :
+                return pathItem.getOPTIONS();
+            case HEAD :
+                return pathItem.getHEAD();
+            case PATCH :
+                return pathItem.getPATCH();
+            case TRACE :
+                return pathItem.getTRACE();
+            default :
+                return null;
+        }
+    }
+
+    String source() {
+        return source;
+    }
+
+    int segmentCount() {
+        return segments.length;
+    }
+
+    String segment(int index) {
+        return segments[index];
+    }
+
+    int rank(int index) {
+        return ranks[index];
+    }
+
+    Pattern pattern(int index) {
+        return patterns[index];
+    }
+
+    // Returns the values of the path parameters of a concrete path which matches this template
+    Map<String, String> parameters(String[] concreteSegments) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        for (int i = 0; i < concreteSegments.length; i++) {
+            if (ranks[i] == PARAMETER) {
+                parameters.put(parameterNames[i], concreteSegments[i]);
+            } else if (ranks[i] == MIXED) {
+                Matcher matcher = patterns[i].matcher(concreteSegments[i]);
+                if (matcher.matches()) {
+                    for (int group = 0; group < names[i].length; group++) {
+                        parameters.put(names[i][group], matcher.group(group + 1));
+                    }
+                }
+            }
+        }
+        return parameters;
+    }
+
+    // Literal segments are more specific than segments mixing literal text and parameters, which are more specific
+    // than segments consisting of a single parameter. Segments are compared from left to right, starting at the given
+    // index, in templates with the same number of segments.
+    int compareTo(PathTemplate other, int from) {
+        for (int i = from; i < ranks.length; i++) {
+            if (ranks[i] != other.ranks[i]) {
+                return Integer.compare(ranks[i], other.ranks[i]);
+            }
+        }
+        return 0;
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.eclipse.microprofile.openapi.models;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -69,6 +71,8 @@ public interface Paths extends Constructible, Extensible<Paths> {
     /**
      * Check whether a path item is present in the map. This is a convenience method for
      * <code>getPathItems().containsKey(name)</code>
+     * <p>
+     * Implementations must not copy the map for this lookup, see <em>Programming model</em> in the specification.
      *
      * @param name
      *            a path name in the format valid for a Paths object.
@@ -84,6 +88,8 @@ public interface Paths extends Constructible, Extensible<Paths> {
 
     /**
      * Returns a path item for a given name. This is a convenience method for <code>getPathItems().get(name)</code>
+     * <p>
+     * Implementations must not copy the map for this lookup, see <em>Programming model</em> in the specification.
      *
      * @param name
      *            a path name in the format valid for a Paths object.
@@ -97,4 +103,122 @@ public interface Paths extends Constructible, Extensible<Paths> {
         return map.get(name);
     }
 
-}
\ No newline at end of file
+    /**
+     * Finds the path item whose path template matches the given concrete request path, e.g. the path item
+     * {@code /bookings/{id}} for the request path {@code /bookings/42}, together with the operation for the given HTTP
+     * method.
+     * <p>
+     * The request path must begin with a slash and must be relative to the URL of the server, i.e. it must not include
+     * the scheme, host, server base path or query string. Path segments are compared one by one, and a path parameter
+     * matches a non-empty part of a single segment. Path parameter values are returned as they appear in the request
+     * path, without percent-decoding.
+     * <p>
+     * If more than one path template matches, the most specific one is chosen, comparing segments from left to right:
+     * a literal segment is more specific than a segment mixing literal text with path parameters, e.g.
+     * {@code {name}.json}, which is more specific than a segment consisting of a single path parameter. For example,
+     * {@code /bookings/mine} is matched by {@code /bookings/mine} rather than by {@code /bookings/{id}}.
+     * <p>
+     * The default implementation builds a {@link PathRouter} of the path items on every call. Implementations should
+     * hold a route table of their path items, discarded whenever the path items are modified and built again on the
+     * next call, so that the cost of this lookup depends on the length of the request path rather than on the number
+     * of path items.
+     *
+     * @param concretePath
+     *            the request path, e.g. {@code /bookings/42}
+     * @param method
+     *            the HTTP method of the request, or {@code null} if only the path item is required
+     * @return the match, or {@code null} if no path template matches the request path. If the matching path item has
+     *         no operation for the given method, the operation of the match is {@code null}.
+     * @since 4.1
+     */
+    default Match match(String concretePath, PathItem.HttpMethod method) {
+        Map<String, PathItem> items = getPathItems();
+        if (items == null) {
+            return null;
+        }
+        PathRouter<PathItem> router = new PathRouter<>();
+        items.forEach(router::add);
+        PathRouter.Route<PathItem> route = router.route(concretePath);
+        if (route == null) {
+            return null;
+        }
+        PathItem pathItem = route.getTarget();
+        return new Match(route.getPathTemplate(), pathItem, PathTemplate.operation(pathItem, method),
+                route.getPathParameters());
+    }
+
+    /**
+     * The result of matching a request path against the path templates of a {@link Paths} object.
+     *
+     * @see Paths#match(String, PathItem.HttpMethod)
+     * @since 4.1
+     */
+    final class Match {
+
+        private final String pathTemplate;
+        private final PathItem pathItem;
+        private final Operation operation;
+        private final Map<String, String> pathParameters;
+
+        /**
+         * Creates a new match.
+         *
+         * @param pathTemplate
+         *            the path template which matched
+         * @param pathItem
+         *            the path item of the path template
+         * @param operation
+         *            the operation of the path item for the requested HTTP method, may be {@code null}
+         * @param pathParameters
+         *            the values of the path parameters, keyed by name, which are copied. May be {@code null} if the
+         *            path template has no parameters.
+         */
+        public Match(String pathTemplate, PathItem pathItem, Operation operation, Map<String, String> pathParameters) {
+            this.pathTemplate = pathTemplate;
+            this.pathItem = pathItem;
+            this.operation = operation;
+            if (pathParameters == null || pathParameters.isEmpty()) {
+                this.pathParameters = Collections.emptyMap();
+            } else {
+                this.pathParameters = Collections.unmodifiableMap(new LinkedHashMap<>(pathParameters));
+            }
+        }
+
+        /**
+         * Returns the path template which matched, e.g. {@code /bookings/{id}}.
+         *
+         * @return the path template
+         */
+        public String getPathTemplate() {
+            return pathTemplate;
+        }
+
+        /**
+         * Returns the path item of the path template which matched.
+         *
+         * @return the path item
+         */
+        public PathItem getPathItem() {
+            return pathItem;
+        }
+
+        /**
+         * Returns the operation of the path item for the requested HTTP method.
+         *
+         * @return the operation, or {@code null} if the path item has no operation for the requested method
+         */
+        public Operation getOperation() {
+            return operation;
+        }
+
+        /**
+         * Returns the values of the path parameters, e.g. {@code {id=42}}.
+         *
+         * @return an unmodifiable map of the path parameter values keyed by name, not percent-decoded
+         */
+        public Map<String, String> getPathParameters() {
+            return pathParameters;
+        }
+    }
+
+}
@@ -79,6 +79,8 @@ public interface Callback extends Constructible, Extensible<Callback>, Reference
     /**
      * Check whether a path item is present to the map. This is a convenience method for
      * <code>getPathItems().containsKey(name)</code>
+     * <p>
+     * Implementations must not copy the map for this lookup, see <em>Programming model</em> in the specification.
      *
      * @param name
      *            a path name in the format valid for a Paths object.
@@ -94,6 +96,8 @@ public interface Callback extends Constructible, Extensible<Callback>, Reference
 
     /**
      * Returns a path item for a given name. This is a convenience method for <code>getPathItems().get(name)</code>
+     * <p>
+     * Implementations must not copy the map for this lookup, see <em>Programming model</em> in the specification.
      *
      * @param name
      *            a path name in the format valid for a Paths object.
@@ -68,6 +68,8 @@ public interface Content extends Constructible {
     /**
      * Check whether a media type is present in the map. This is a convenience method for
      * <code>getMediaTypes().containsKey(name)</code>
+     * <p>
+     * Implementations must not copy the map for this lookup, see <em>Programming model</em> in the specification.
      *
      * @param name
      *            the name of a media type e.g. application/json.
@@ -83,6 +85,8 @@ public interface Content extends Constructible {
 
     /**
      * Returns a media type for a given name. This is a convenience method for <code>getMediaTypes().get(name)</code>
+     * <p>
+     * Implementations must not copy the map for this lookup, see <em>Programming model</em> in the specification.
      *
      * @param name
      *            the name of a media type e.g. application/json.
@@ -96,4 +100,29 @@ public interface Content extends Constructible {
         return map.get(name);
     }
 
+    /**
+     * Selects the media type of this Content which is most acceptable according to the value of an HTTP Accept
+     * header, as described by RFC 9110.
+     * <p>
+     * Both the media ranges of the header and the names of the media types of this Content may contain wildcards,
+     * such as {@code application/*} or <code>*&#47;*</code>. Each media type is given the quality value ({@code q}
+     * parameter) of the most specific media range of the header which matches it, and the media type with the highest
+     * non-zero quality value is selected. Among media types with the same quality value, a name without wildcards is
+     * preferred to a range of subtypes, which is preferred to <code>*&#47;*</code>, and then the first media type of
+     * the map is selected. Other media type parameters are ignored. A missing or empty header accepts any media type.
+     * <p>
+     * The default implementation takes the parsed names of the media types from a bounded cache shared by all content
+     * objects, looking each name up on every call. Implementations may parse the names once, whenever the media types
+     * are modified.
+     *
+     * @param acceptHeader
+     *            the value of the Accept header e.g. {@code application/json, text/*;q=0.5}, may be {@code null}
+     * @return the name and value of the selected media type, or {@code null} if no media type of this Content is
+     *         acceptable
+     * @since 4.1
+     */
+    default Map.Entry<String, MediaType> negotiate(String acceptHeader) {
+        return MediaRanges.negotiate(acceptHeader, getMediaTypes());
+    }
+
 }
\ No newline at end of file
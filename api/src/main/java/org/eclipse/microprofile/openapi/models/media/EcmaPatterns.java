@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.models.media;
+
+import java.util.regex.Pattern;
+
+import org.eclipse.microprofile.openapi.internal.BoundedCache;
+
+/**
+ * Compilation of ECMA-262 regular expressions, as used by the pattern and patternProperties keywords of schemas, into
+ * Java patterns. Compiled patterns are kept in a bounded cache shared by all schemas.
+ */
+final class EcmaPatterns {
+
+    // The characters matched by \s in ECMA-262, as the content of a Java character class
+    private static final String WHITESPACE =
+            "\\s\\u00a0\\u1680\\u2000-\\u200a\\u2028\\u2029\\u202f\\u205f\\u3000\\ufeff";
+
+    private static final BoundedCache<String, Pattern> CACHE =
+            new BoundedCache<>(regex -> Pattern.compile(translate(regex)));
+
+    private EcmaPatterns() {
+    }
+
+    /**
+     * Returns the compiled form of an ECMA-262 regular expression.
+     *
+     * @param regex
+     *            the regular expression
+     * @return the compiled pattern
+     * @throws java.util.regex.PatternSyntaxException
+     *             if the regular expression is not valid
+     */
+    static Pattern compile(String regex) {
+        return CACHE.get(regex);
+    }
+
+    /**
+     * Translates the constructs of an ECMA-262 regular expression which have a different meaning in Java.
+     * <ul>
+     * <li>{@code $} outside of a character class only matches at the end of the input</li>
+     * <li>{@code [} and {@code &} are literal within a character class</li>
+     * <li>{@code []} matches nothing and {@code [^]} matches any character</li>
+     * <li><code>{</code> and <code>}</code> are literal unless they form a quantifier</li>
+     * <li><code>&#92;u{...}</code> denotes a code point and {@code \0} the NUL character</li>
+     * <li>{@code \s} and {@code \S} match the same whitespace and non-whitespace characters as in ECMA-262</li>
+     * </ul>
+     */
+    static String translate(String regex) {
+        StringBuilder sb = new StringBuilder(regex.length() + 8);
+        boolean inClass = false;
+        int length = regex.length();
+        for (int i = 0; i < length; i++) {
+            char c = regex.charAt(i);
+            if (c == '\\' && i + 1 < length) {
+                char next = regex.charAt(++i);
+                if (next == 'u' && i + 1 < length && regex.charAt(i + 1) == '{') {
+                    int close = regex.indexOf('}', i);
+                    if (close > 0) {
+                        sb.append("\\x{").append(regex, i + 2, close).append('}');
+                        i = close;
+                        continue;
+                    }
+                }
+                if (next == '0' && (i + 1 >= length || !Character.isDigit(regex.charAt(i + 1)))) {
+                    sb.append("\\x00");
+                    continue;
+                }
+                if (next == 's') {
+                    sb.append(inClass ? WHITESPACE : "[" + WHITESPACE + "]");
+                    continue;
+                }
+                if (next == 'S') {
+                    // Within a character class, the nested class is added to the union of the enclosing class
+                    sb.append("[^").append(WHITESPACE).append(']');
+                    continue;
+                }
+                sb.append('\\').append(next);
+                continue;
+            }
+            if (inClass) {
+                if (c == ']') {
+                    inClass = false;
+                } else if (c == '[' || c == '&') {
+                    sb.append('\\');
+                }
+                sb.append(c);
+                continue;
+            }
+            switch (c) {
+                case '[' :
+                    if (regex.startsWith("[]", i)) {
+                        sb.append("(?!)");
+                        i += 1;
+                    } else if (regex.startsWith("[^]", i)) {
+                        sb.append("[\\s\\S]");
+                        i += 2;
+                    } else {
+                        inClass = true;
+                        sb.append(c);
+                    }
+                    break;
+                case '$' :
+                    sb.append("(?![\\s\\S])");
+                    break;
+                case '{' :
+                    int end = quantifierEnd(regex, i);
+                    if (end < 0) {
+                        sb.append("\\{");
+                    } else {
+                        sb.append(regex, i, end + 1);
+                        i = end;
+                    }
+                    break;
+                case '}' :
+                    sb.append("\\}");
+                    break;
+                default :
+                    sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // Returns the index of the closing brace of a quantifier {n}, {n,} or {n,m} starting at the given index, or -1
+    private static int quantifierEnd(String regex, int start) {
+        int i = start + 1;
+        int digits = 0;
+        while (i < regex.length() && Character.isDigit(regex.charAt(i))) {
+            i++;
+            digits++;
+        }
+        if (digits == 0 || i >= regex.length()) {
+            return -1;
+        }
+        if (regex.charAt(i) == ',') {
+            i++;
+            while (i < regex.length() && Character.isDigit(regex.charAt(i))) {
+                i++;
+            }
+        }
+        return i < regex.length() && regex.charAt(i) == '}' ? i : -1;
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.models.media;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Normalization of enumeration values, so that values which are equal in JSON are also equal in Java and have the
+ * same hash code.
+ */
+final class EnumerationValues {
+
+    private static final String API_PACKAGE = "org.eclipse.microprofile.openapi.";
+
+    private EnumerationValues() {
+    }
+
+    /**
+     * Returns the normalized form of a value.
+     * <ul>
+     * <li>Numbers are converted to {@link BigDecimal} without trailing zeros, so that {@code 1}, {@code 1L} and
+     * {@code 1.0} are equal.</li>
+     * <li>Character sequences are converted to {@link String}.</li>
+     * <li>Enum constants of the OpenAPI model and annotations are converted to their value in the document, as
+     * returned by {@code toString()}, and other Java enum constants are converted to their name.</li>
+     * <li>Lists and maps are normalized recursively.</li>
+     * </ul>
+     *
+     * @param value
+     *            the value, may be {@code null}
+     * @return the normalized value
+     */
+    static Object normalize(Object value) {
+        if (value instanceof Number) {
+            BigDecimal number = toBigDecimal((Number) value);
+            return number == null ? value : number.stripTrailingZeros();
+        }
+        if (value instanceof CharSequence) {
+            return value.toString();
+        }
+        if (value instanceof Enum) {
+            Enum<?> constant = (Enum<?>) value;
+            return constant.getDeclaringClass().getName().startsWith(API_PACKAGE) ? constant.toString()
+                    : constant.name();
+        }
+        if (value instanceof List) {
+            List<Object> list = new ArrayList<>();
+            for (Object item : (List<?>) value) {
+                list.add(normalize(item));
+            }
+            return list;
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> map.put(normalize(k), normalize(v)));
+            return map;
+        }
+        return value;
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        if (number instanceof Integer || number instanceof Long || number instanceof Short
+                || number instanceof Byte) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        if (number instanceof Float) {
+            // Widening to double would turn 0.1f into 0.10000000149011612
+            float f = number.floatValue();
+            return Float.isNaN(f) || Float.isInfinite(f) ? null : new BigDecimal(Float.toString(f));
+        }
+        double d = number.doubleValue();
+        return Double.isNaN(d) || Double.isInfinite(d) ? null : new BigDecimal(Double.toString(d));
+    }
+}
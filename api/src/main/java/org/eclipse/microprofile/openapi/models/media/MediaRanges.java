@@ -0,0 +1,206 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.models.media;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.internal.BoundedCache;
+
+/**
+ * Content negotiation between the media ranges of an HTTP Accept header and the media types of a {@link Content}, as
+ * described by RFC 9110. Parsed Accept headers and parsed media type names are kept in bounded caches shared by all
+ * content objects, since the same few headers are sent by most clients and the same few media types are used by most
+ * documents.
+ */
+final class MediaRanges {
+
+    private static final BoundedCache<String, List<Range>> CACHE = new BoundedCache<>(MediaRanges::parseRanges);
+
+    // A media type name which cannot be parsed, as the cache of names does not hold null values
+    private static final Range INVALID = new Range("", "", -1);
+
+    private static final BoundedCache<String, Range> NAMES = new BoundedCache<>(name -> {
+        Range range = parse(name, 1000);
+        return range == null ? INVALID : range;
+    });
+
+    private static final List<Range> ANY = Collections.singletonList(new Range("*", "*", 1000));
+
+    /**
+     * A media range or media type, without its parameters.
+     */
+    static final class Range {
+        private final String type;
+        private final String subtype;
+        // The quality value, in thousandths
+        private final int quality;
+
+        Range(String type, String subtype, int quality) {
+            this.type = type;
+            this.subtype = subtype;
+            this.quality = quality;
+        }
+
+        String getType() {
+            return type;
+        }
+
+        String getSubtype() {
+            return subtype;
+        }
+
+        int getQuality() {
+            return quality;
+        }
+
+        // 2 for a media type, 1 for a range of subtypes, 0 for any media type
+        int specificity() {
+            return "*".equals(type) ? 0 : ("*".equals(subtype) ? 1 : 2);
+        }
+
+        boolean matches(Range other) {
+            return ("*".equals(type) || "*".equals(other.type) || type.equals(other.type))
+                    && ("*".equals(subtype) || "*".equals(other.subtype) || subtype.equals(other.subtype));
+        }
+    }
+
+    private MediaRanges() {
+    }
+
+    /**
+     * Selects the media type of a content object which is most acceptable according to an Accept header.
+     * <p>
+     * Each media type is given the quality value of the most specific media range of the header which matches it.
+     * The media type with the highest quality value is selected. Among media types with the same quality value, a
+     * media type is preferred to a range of subtypes, which is preferred to any media type, and then the first one
+     * in the map is selected.
+     *
+     * @param accept
+     *            the value of the Accept header, may be {@code null}
+     * @param mediaTypes
+     *            the media types, may be {@code null}
+     * @return the selected entry, or {@code null} if none is acceptable
+     */
+    static Map.Entry<String, MediaType> negotiate(String accept, Map<String, MediaType> mediaTypes) {
+        if (mediaTypes == null || mediaTypes.isEmpty()) {
+            return null;
+        }
+        List<Range> ranges = parseAccept(accept);
+        Map.Entry<String, MediaType> best = null;
+        int bestQuality = 0;
+        int bestSpecificity = -1;
+        for (Map.Entry<String, MediaType> entry : mediaTypes.entrySet()) {
+            Range key = entry.getKey() == null ? INVALID : NAMES.get(entry.getKey());
+            if (key == INVALID) {
+                continue;
+            }
+            int quality = quality(key, ranges);
+            int specificity = key.specificity();
+            if (quality > bestQuality || quality == bestQuality && quality > 0 && specificity > bestSpecificity) {
+                best = entry;
+                bestQuality = quality;
+                bestSpecificity = specificity;
+            }
+        }
+        return best == null ? null : new AbstractMap.SimpleImmutableEntry<>(best);
+    }
+
+    /**
+     * Returns the quality value given to a media type by the most specific matching media range.
+     *
+     * @param key
+     *            the media type
+     * @param ranges
+     *            the media ranges of an Accept header
+     * @return the quality value, in thousandths, or 0 if no media range matches
+     */
+    static int quality(Range key, List<Range> ranges) {
+        int quality = 0;
+        int specificity = -1;
+        for (Range range : ranges) {
+            if (range.specificity() > specificity && range.matches(key)) {
+                quality = range.getQuality();
+                specificity = range.specificity();
+            }
+        }
+        return quality;
+    }
+
+    /**
+     * Returns the media ranges of an Accept header. A missing or empty header accepts any media type. Media ranges
+     * which cannot be parsed are ignored.
+     *
+     * @param accept
+     *            the value of the Accept header, may be {@code null}
+     * @return the media ranges
+     */
+    static List<Range> parseAccept(String accept) {
+        if (accept == null || accept.trim().isEmpty()) {
+            return ANY;
+        }
+        return CACHE.get(accept);
+    }
+
+    private static List<Range> parseRanges(String accept) {
+        List<Range> ranges = new ArrayList<>();
+        for (String element : accept.split(",")) {
+            Range range = parse(element, parseQuality(element));
+            if (range != null) {
+                ranges.add(range);
+            }
+        }
+        return Collections.unmodifiableList(ranges);
+    }
+
+    private static Range parse(String value, int quality) {
+        int semicolon = value.indexOf(';');
+        String mediaType = (semicolon < 0 ? value : value.substring(0, semicolon)).trim().toLowerCase(Locale.ROOT);
+        int slash = mediaType.indexOf('/');
+        if (slash <= 0 || slash == mediaType.length() - 1 || quality < 0) {
+            return null;
+        }
+        String type = mediaType.substring(0, slash).trim();
+        String subtype = mediaType.substring(slash + 1).trim();
+        if ("*".equals(type) && !"*".equals(subtype)) {
+            return null;
+        }
+        return new Range(type, subtype, quality);
+    }
+
+    // Returns the weight of a media range in thousandths, or -1 if it is not valid
+    private static int parseQuality(String element) {
+        String[] parameters = element.split(";");
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.length() > 2 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q')
+                    && parameter.charAt(1) == '=') {
+                try {
+                    double q = Double.parseDouble(parameter.substring(2).trim());
+                    return q >= 0 && q <= 1 ? (int) Math.round(q * 1000) : -1;
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+            }
+        }
+        return 1000;
+    }
+}
@@ -0,0 +1,243 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.models.media;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * A numeric property of a Schema, such as {@code minimum} or {@code multipleOf}, with primitive views of its value.
+ * <p>
+ * Comparisons with {@code long} and {@code double} values use primitive arithmetic whenever it determines the
+ * result, and fall back to {@link BigDecimal} arithmetic otherwise. The result of a comparison is always the same as
+ * if both numbers were converted to {@code BigDecimal}, with {@code double} values converted using
+ * {@link BigDecimal#valueOf(double)}.
+ * <p>
+ * Instances of this class are immutable.
+ *
+ * @see Schema#getMinimumValue()
+ * @since 4.1
+ */
+public final class NumericValue {
+
+    private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+    private static final long MAX_SAFE_INTEGER = 1L << 53;
+
+    private final BigDecimal decimal;
+    private final boolean isLong;
+    private final long longValue;
+    private final boolean isExactDouble;
+    private final double doubleValue;
+
+    private NumericValue(BigDecimal decimal) {
+        this.decimal = decimal;
+        this.isLong = decimal.stripTrailingZeros().scale() <= 0
+                && decimal.compareTo(LONG_MIN) >= 0 && decimal.compareTo(LONG_MAX) <= 0;
+        this.longValue = isLong ? decimal.longValue() : 0;
+        this.doubleValue = decimal.doubleValue();
+        this.isExactDouble = !Double.isInfinite(doubleValue) && decimal.compareTo(new BigDecimal(doubleValue)) == 0;
+    }
+
+    /**
+     * Returns the numeric value of the given number.
+     *
+     * @param value
+     *            the number, may be {@code null}
+     * @return the numeric value, or {@code null} if the given number is {@code null}
+     */
+    public static NumericValue of(BigDecimal value) {
+        return value == null ? null : new NumericValue(value);
+    }
+
+    /**
+     * Returns the value of this number as a {@code BigDecimal}.
+     *
+     * @return the exact value of this number
+     */
+    public BigDecimal bigDecimalValue() {
+        return decimal;
+    }
+
+    /**
+     * Checks whether the value of this number is an integer within the range of {@code long}.
+     *
+     * @return {@code true} if {@link #longValue()} returns the exact value of this number
+     */
+    public boolean isLong() {
+        return isLong;
+    }
+
+    /**
+     * Returns the value of this number as a {@code long}.
+     *
+     * @return the exact value of this number
+     * @throws ArithmeticException
+     *             if the value of this number is not an integer within the range of {@code long}
+     */
+    public long longValue() {
+        if (!isLong) {
+            throw new ArithmeticException(decimal.toPlainString() + " cannot be represented as a long");
+        }
+        return longValue;
+    }
+
+    /**
+     * Checks whether the value of this number can be represented exactly as a {@code double}.
+     *
+     * @return {@code true} if {@link #doubleValue()} returns the exact value of this number
+     */
+    public boolean isExactDouble() {
+        return isExactDouble;
+    }
+
+    /**
+     * Returns the value of this number as a {@code double}, rounded to the nearest {@code double} value if it cannot be
+     * represented exactly.
+     *
+     * @return the value of this number as a {@code double}
+     * @see BigDecimal#doubleValue()
+     */
+    public double doubleValue() {
+        return doubleValue;
+    }
+
+    /**
+     * Compares this number with a {@code long} value.
+     *
+     * @param value
+     *            the value to compare with
+     * @return a negative integer, zero, or a positive integer as this number is less than, equal to, or greater than
+     *         the given value
+     */
+    public int compareTo(long value) {
+        if (isLong) {
+            return Long.compare(longValue, value);
+        }
+        return decimal.compareTo(BigDecimal.valueOf(value));
+    }
+
+    /**
+     * Compares this number with a {@code double} value. Positive and negative zero are equal, and infinite values are
+     * greater or less than any number.
+     *
+     * @param value
+     *            the value to compare with
+     * @return a negative integer, zero, or a positive integer as this number is less than, equal to, or greater than
+     *         the given value
+     * @throws IllegalArgumentException
+     *             if the given value is NaN
+     */
+    public int compareTo(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Cannot compare with NaN");
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? -1 : 1;
+        }
+        // Rounding to double preserves order, so distinct doubles order the decimal values in the same way
+        if (doubleValue != value) {
+            return doubleValue < value ? -1 : 1;
+        }
+        if (isLong && Math.abs(longValue) <= MAX_SAFE_INTEGER) {
+            return 0;
+        }
+        return decimal.compareTo(BigDecimal.valueOf(value));
+    }
+
+    /**
+     * Compares this number with another number, using primitive arithmetic when the other number is a primitive
+     * wrapper.
+     *
+     * @param value
+     *            the number to compare with
+     * @return a negative integer, zero, or a positive integer as this number is less than, equal to, or greater than
+     *         the given number
+     * @throws NullPointerException
+     *             if the given number is {@code null}
+     * @throws IllegalArgumentException
+     *             if the given number is NaN
+     */
+    public int compareTo(Number value) {
+        if (value instanceof Double || value instanceof Float) {
+            return compareTo(value.doubleValue());
+        }
+        if (isIntegral(value)) {
+            return compareTo(value.longValue());
+        }
+        return decimal.compareTo(toBigDecimal(value));
+    }
+
+    /**
+     * Checks whether a number is an integer multiple of this number, as required by the {@code multipleOf} keyword.
+     *
+     * @param value
+     *            the number to check
+     * @return {@code true} if dividing the given number by this number results in an integer, {@code false} otherwise
+     *         or if the given number is not finite or this number is zero
+     * @throws NullPointerException
+     *             if the given number is {@code null}
+     */
+    public boolean divides(Number value) {
+        if (decimal.signum() == 0) {
+            return false;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double d = value.doubleValue();
+            if (Double.isNaN(d) || Double.isInfinite(d)) {
+                return false;
+            }
+            if (isLong && d == Math.rint(d) && Math.abs(d) < 0x1p63) {
+                return (long) d % longValue == 0;
+            }
+            return BigDecimal.valueOf(d).remainder(decimal).signum() == 0;
+        }
+        if (isLong && isIntegral(value)) {
+            return value.longValue() % longValue == 0;
+        }
+        return toBigDecimal(value).remainder(decimal).signum() == 0;
+    }
+
+    private static boolean isIntegral(Number value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+
+    private static BigDecimal toBigDecimal(Number value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        }
+        return new BigDecimal(value.toString());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof NumericValue && decimal.compareTo(((NumericValue) obj).decimal) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return decimal.signum() == 0 ? 0 : decimal.stripTrailingZeros().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return decimal.toPlainString();
+    }
+}
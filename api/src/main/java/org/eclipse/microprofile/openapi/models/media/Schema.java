@@ -20,6 +20,8 @@ package org.eclipse.microprofile.openapi.models.media;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
 
 import org.eclipse.microprofile.openapi.OASFactory;
 import org.eclipse.microprofile.openapi.models.Constructible;
@@ -173,6 +175,40 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
      */
     Schema addEnumeration(Object enumeration);
 
+    /**
+     * Checks whether a value is one of the enumerated values allowed for objects defined by this Schema.
+     * <p>
+     * Values are compared by their JSON value rather than by their Java type: numbers are equal if they have the same
+     * numeric value (e.g. {@code 1}, {@code 1L} and {@code 1.0}), character sequences are equal if they have the same
+     * characters, an enum constant of the model such as {@link SchemaType#ARRAY} is equal to its value in the document
+     * ({@code "array"}), any other Java enum constant is equal to its name, and lists and maps are compared recursively
+     * in the same way, as by {@link #normalizeValue(Object)}.
+     * <p>
+     * The default implementation normalizes the given value and each enumerated value on every call, so it allocates
+     * and takes time proportional to the size of the enumeration. Implementations should maintain a hash set of the
+     * normalized enumerated values, updated whenever the enumeration is modified, so that this check is performed in
+     * constant time even for enumerations with thousands of values.
+     *
+     * @param value
+     *            the value to check, may be {@code null}
+     * @return {@code true} if the enumeration is set and contains a value equal to the given value, {@code false}
+     *         otherwise
+     * @since 4.1
+     */
+    default boolean enumerationContains(Object value) {
+        List<Object> enumeration = getEnumeration();
+        if (enumeration == null) {
+            return false;
+        }
+        Object normalized = EnumerationValues.normalize(value);
+        for (Object allowed : enumeration) {
+            if (Objects.equals(normalized, EnumerationValues.normalize(allowed))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Removes an item of the appropriate type to the enumerated list of values allowed.
      *
@@ -210,6 +246,21 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the multipleOf property from this Schema instance as a {@link NumericValue}, which provides primitive
+     * {@code long} and {@code double} views of the value for use in numeric checks.
+     * <p>
+     * The default implementation creates a new {@code NumericValue} on each call. Implementations should create it
+     * once and discard it whenever the multipleOf property is modified.
+     *
+     * @return the positive number that restricts the value of the object, or {@code null} if the multipleOf property is
+     *         not set
+     * @since 4.1
+     **/
+    default NumericValue getMultipleOfValue() {
+        return NumericValue.of(getMultipleOf());
+    }
+
     /**
      * Returns the maximum property from this Schema instance.
      *
@@ -237,6 +288,18 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the maximum property from this Schema instance as a {@link NumericValue}.
+     *
+     * @return the value that a numeric object must be less than or equal to, or {@code null} if the maximum property is
+     *         not set
+     * @see #getMultipleOfValue()
+     * @since 4.1
+     **/
+    default NumericValue getMaximumValue() {
+        return NumericValue.of(getMaximum());
+    }
+
     /**
      * Returns the exclusiveMaximum property from this Schema instance.
      *
@@ -267,6 +330,18 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the exclusiveMaximum property from this Schema instance as a {@link NumericValue}.
+     *
+     * @return the value that a numeric object must be less than, or {@code null} if the exclusiveMaximum property is
+     *         not set
+     * @see #getMultipleOfValue()
+     * @since 4.1
+     **/
+    default NumericValue getExclusiveMaximumValue() {
+        return NumericValue.of(getExclusiveMaximum());
+    }
+
     /**
      * Returns the minimum property from this Schema instance.
      *
@@ -294,6 +369,18 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the minimum property from this Schema instance as a {@link NumericValue}.
+     *
+     * @return the value that a numeric object must be greater than or equal to, or {@code null} if the minimum property
+     *         is not set
+     * @see #getMultipleOfValue()
+     * @since 4.1
+     **/
+    default NumericValue getMinimumValue() {
+        return NumericValue.of(getMinimum());
+    }
+
     /**
      * Returns the exclusiveMinimum property from this Schema instance.
      *
@@ -324,6 +411,18 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the exclusiveMinimum property from this Schema instance as a {@link NumericValue}.
+     *
+     * @return the value that a numeric object must be greater than, or {@code null} if the exclusiveMinimum property is
+     *         not set
+     * @see #getMultipleOfValue()
+     * @since 4.1
+     **/
+    default NumericValue getExclusiveMinimumValue() {
+        return NumericValue.of(getExclusiveMinimum());
+    }
+
     /**
      * Returns the maxLength property from this Schema instance.
      * <p>
@@ -389,6 +488,25 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
      **/
     String getPattern();
 
+    /**
+     * Returns the pattern property from this Schema instance, compiled into a Java {@link Pattern}.
+     * <p>
+     * The pattern property is an ECMA-262 regular expression. It is translated into an equivalent Java regular
+     * expression before it is compiled, and it is not implicitly anchored, so it should be used with
+     * {@link java.util.regex.Matcher#find()}. Compiled patterns are cached, so that schemas with the same pattern share
+     * a single compiled instance and repeated calls do not compile the pattern again.
+     *
+     * @return the compiled pattern, or {@code null} if the pattern property is not set
+     * @throws java.util.regex.PatternSyntaxException
+     *             if the pattern property is not a valid regular expression
+     * @see #compilePattern(String)
+     * @since 4.1
+     */
+    default Pattern getCompiledPattern() {
+        String pattern = getPattern();
+        return pattern == null ? null : EcmaPatterns.compile(pattern);
+    }
+
     /**
      * Sets the pattern property of this Schema instance to the string given.
      *
@@ -643,6 +761,39 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
      */
     void removeType(SchemaType type);
 
+    /**
+     * Checks whether the given type is one of the types of this Schema instance. This is a convenience method for
+     * <code>getType().contains(type)</code>
+     * <p>
+     * Implementations should not copy the type list for this check, see <em>Programming model</em> in the
+     * specification.
+     *
+     * @param type
+     *            the type to check
+     * @return {@code true} if the type property is set and contains the given type, otherwise {@code false}
+     * @since 4.1
+     **/
+    default boolean hasType(SchemaType type) {
+        List<SchemaType> types = getType();
+        return types != null && types.contains(type);
+    }
+
+    /**
+     * Returns the number of types of this Schema instance. This is a convenience method for
+     * <code>getType().size()</code>
+     * <p>
+     * Implementations should not copy the type list for this count, see <em>Programming model</em> in the
+     * specification.
+     *
+     * @return the number of types in the type property, or 0 if it is not set
+     * @see #hasType(SchemaType)
+     * @since 4.1
+     **/
+    default int typeCount() {
+        List<SchemaType> types = getType();
+        return types == null ? 0 : types.size();
+    }
+
     /**
      * Returns a Schema which describes properties not allowed in objects defined by the current schema.
      *
@@ -1512,6 +1663,58 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the normalized form of a value, such that two values are equal as JSON values if, and only if, their
+     * normalized forms are {@linkplain Object#equals(Object) equal}. Normalized values have consistent hash codes, so
+     * they can be stored in hash-based collections.
+     * <ul>
+     * <li>Finite numbers are converted to {@link java.math.BigDecimal} without trailing zeros, so that {@code 1},
+     * {@code 1L} and {@code 1.0} are equal. A {@code float} is converted from its decimal representation, so that
+     * {@code 0.1f} and {@code 0.1} are equal.</li>
+     * <li>Character sequences are converted to {@link String}.</li>
+     * <li>Enum constants of the OpenAPI model and annotations, such as {@link SchemaType#ARRAY}, are converted to their
+     * value in the document ({@code "array"}). Other Java enum constants are converted to their name.</li>
+     * <li>The items of lists, and the keys and values of maps, are normalized recursively.</li>
+     * <li>Other values, including {@code null}, are returned as they are.</li>
+     * </ul>
+     * This is the comparison used by {@link #enumerationContains(Object)}. Consumers which compare values with many
+     * enumerated or constant values should normalize those values once and keep the normalized forms.
+     *
+     * @param value
+     *            the value, may be {@code null}
+     * @return the normalized value, which is a new list or map if the value is a list or a map
+     * @since 4.1
+     */
+    static Object normalizeValue(Object value) {
+        return EnumerationValues.normalize(value);
+    }
+
+    /**
+     * Compiles an ECMA-262 regular expression, such as the pattern property or a key of the patternProperties property
+     * of a schema, into a Java {@link Pattern}.
+     * <p>
+     * The following constructs, whose meaning differs between ECMA-262 and Java, are translated: {@code $} only matches
+     * at the end of the input, {@code [} and {@code &} are literal within a character class, {@code []} and
+     * {@code [^]} match no character and any character respectively, braces are literal unless they form a
+     * quantifier, {@code \s} and {@code \S} match the whitespace and non-whitespace characters of ECMA-262 and
+     * <code>&#92;u{...}</code> denotes a code point.
+     * <p>
+     * Compiled patterns are kept in a bounded cache shared by all schemas, so compiling the same regular expression
+     * again is cheap.
+     *
+     * @param regex
+     *            an ECMA-262 regular expression
+     * @return the compiled pattern, to be used with {@link java.util.regex.Matcher#find()}
+     * @throws java.util.regex.PatternSyntaxException
+     *             if the regular expression is not valid
+     * @throws NullPointerException
+     *             if the regular expression is {@code null}
+     * @since 4.1
+     */
+    static Pattern compilePattern(String regex) {
+        return EcmaPatterns.compile(regex);
+    }
+
     /**
      * Returns the patternProperties property from this Schema instance.
      * <p>
@@ -72,6 +72,8 @@ public interface APIResponses extends Constructible, Extensible<APIResponses> {
     /**
      * Check whether a APIResponse is present in the map. This is a convenience method for
      * <code>getAPIResponses().containsKey(name)</code>
+     * <p>
+     * Implementations must not copy the map for this lookup, see <em>Programming model</em> in the specification.
      *
      * @param name
      *            the name of APIResponse (http status code eventually with wildcard or {@value #DEFAULT})
@@ -87,6 +89,8 @@ public interface APIResponses extends Constructible, Extensible<APIResponses> {
 
     /**
      * Returns a APIResponse for a given name. This is a convenience method for <code>getAPIResponses().get(name)</code>
+     * <p>
+     * Implementations must not copy the map for this lookup, see <em>Programming model</em> in the specification.
      *
      * @param name
      *            the name of APIResponse (http status code eventually with wildcard or {@value #DEFAULT})
@@ -140,4 +144,29 @@ public interface APIResponses extends Constructible, Extensible<APIResponses> {
         return this;
     }
 
+    /**
+     * Returns the response which describes the given HTTP status code.
+     * <p>
+     * As described by the OpenAPI Specification, a response declared for the exact status code (e.g. {@code 404}) takes
+     * precedence over a response declared for the range of the status code (e.g. {@code 4XX}), which takes precedence
+     * over the {@value #DEFAULT} response. Ranges are only defined for status codes from 100 to 599.
+     * <p>
+     * The default implementation looks up the keys of each level in turn. Implementations should store responses for
+     * concrete status codes in slots indexed by status code, along with one slot per range and a slot for the
+     * {@value #DEFAULT} response, so that this lookup takes constant time without creating any key.
+     *
+     * @param statusCode
+     *            the HTTP status code of a response
+     * @return the response for the status code, or its range, or the {@value #DEFAULT} response, or {@code null} if
+     *         none of these is present
+     * @since 4.1
+     */
+    default APIResponse resolve(int statusCode) {
+        APIResponse response = getAPIResponse(Integer.toString(statusCode));
+        if (response == null && statusCode >= 100 && statusCode <= 599) {
+            response = getAPIResponse((statusCode / 100) + "XX");
+        }
+        return response == null ? getAPIResponse(DEFAULT) : response;
+    }
+
 }
@@ -93,6 +93,8 @@ public interface SecurityRequirement extends Constructible {
     /**
      * Check whether a scheme is present in the map. This is a convenience method for
      * <code>getSchemes().containsKey(name)</code>
+     * <p>
+     * Implementations must not copy the map for this lookup, see <em>Programming model</em> in the specification.
      *
      * @param securitySchemeName
      *            the name of security scheme
@@ -109,6 +111,8 @@ public interface SecurityRequirement extends Constructible {
     /**
      * Returns a list of scopes for a given scheme name. This is a convenience method for
      * <code>getSchemes().get(name)</code>
+     * <p>
+     * Implementations must not copy the map for this lookup, see <em>Programming model</em> in the specification.
      *
      * @param securitySchemeName
      *            the name of security scheme
@@ -82,6 +82,22 @@ public interface Server extends Constructible, Extensible<Server> {
         return this;
     }
 
+    /**
+     * Returns the compiled form of the url property of this Server instance, which can be expanded with the values of
+     * the server variables or matched against a concrete URL.
+     * <p>
+     * The default implementation returns a template from a bounded cache shared by all servers. Implementations may
+     * instead keep the compiled template with the server, provided that it is discarded whenever the url property is
+     * modified.
+     *
+     * @return the compiled url, or {@code null} if the url property is not set
+     * @since 4.1
+     **/
+    default ServerUrlTemplate getUrlTemplate() {
+        String url = getUrl();
+        return url == null ? null : ServerUrlTemplate.compile(url);
+    }
+
     /**
      * This method returns the description property of Server instance. The decsription property is an optional string
      * describing the host designated by the URL.
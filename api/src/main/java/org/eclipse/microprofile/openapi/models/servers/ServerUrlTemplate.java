@@ -0,0 +1,355 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.models.servers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.microprofile.openapi.internal.BoundedCache;
+
+/**
+ * A compiled server URL, in which variables are named enclosed in curly brackets, e.g.
+ * {@code https://{region}.example.com/{basePath}}.
+ * <p>
+ * A template is parsed once, so that it can be expanded with the values of its variables, or matched against a
+ * concrete URL to find the values of its variables, without parsing the URL again. Instances of this class are
+ * immutable and may be shared between threads.
+ *
+ * @see Server#getUrlTemplate()
+ * @since 4.1
+ */
+public final class ServerUrlTemplate {
+
+    private static final BoundedCache<String, ServerUrlTemplate> CACHE = new BoundedCache<>(ServerUrlTemplate::new);
+
+    private final String template;
+    // The literal text before each variable, followed by the literal text after the last variable
+    private final String[] literals;
+    private final String[] names;
+    // The index of the variable of each occurrence in the list of variable names, which names its regex group
+    private final int[] variables;
+    private final List<String> variableNames;
+    private volatile Pattern pattern;
+    // The pattern for the enumerated values of the variables of the last server matched
+    private volatile Constrained constrained;
+
+    // A pattern in which the variables only match their enumerated values
+    private static final class Constrained {
+        private final List<List<String>> enumerations;
+        private final Pattern pattern;
+
+        private Constrained(List<List<String>> enumerations, Pattern pattern) {
+            this.enumerations = enumerations;
+            this.pattern = pattern;
+        }
+    }
+
+    private ServerUrlTemplate(String template) {
+        this.template = template;
+        List<String> literalList = new ArrayList<>();
+        List<String> nameList = new ArrayList<>();
+        int start = 0;
+        int open = template.indexOf('{');
+        while (open >= 0) {
+            int close = template.indexOf('}', open);
+            if (close < 0) {
+                break;
+            }
+            if (close > open + 1) {
+                literalList.add(template.substring(start, open));
+                nameList.add(template.substring(open + 1, close));
+                start = close + 1;
+            }
+            open = template.indexOf('{', close + 1);
+        }
+        literalList.add(template.substring(start));
+        this.literals = literalList.toArray(new String[0]);
+        this.names = nameList.toArray(new String[0]);
+        this.variableNames = Collections.unmodifiableList(new ArrayList<>(new LinkedHashSet<>(nameList)));
+        this.variables = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            variables[i] = variableNames.indexOf(names[i]);
+        }
+    }
+
+    /**
+     * Returns the compiled form of a server URL. Compiled templates are kept in a bounded cache shared by all
+     * servers.
+     *
+     * @param template
+     *            the server URL
+     * @return the compiled template
+     * @throws NullPointerException
+     *             if the template is {@code null}
+     */
+    public static ServerUrlTemplate compile(String template) {
+        return CACHE.get(template);
+    }
+
+    /**
+     * Returns the server whose URL matches the given concrete URL, e.g. to find which server of a document a request
+     * was sent to. The value of a variable must be one of the enumerated values of the corresponding
+     * {@link ServerVariable}, if any.
+     *
+     * @param servers
+     *            the servers, may be {@code null}
+     * @param url
+     *            the concrete URL
+     * @return the first server which matches the URL, or {@code null} if there is none
+     */
+    public static Server findServer(List<Server> servers, String url) {
+        if (servers == null || url == null) {
+            return null;
+        }
+        for (Server server : servers) {
+            ServerUrlTemplate template = server == null ? null : server.getUrlTemplate();
+            if (template != null && template.match(url, server.getVariables()) != null) {
+                return server;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isAllowed(Map<String, String> values, Map<String, ServerVariable> variables) {
+        if (variables == null) {
+            return true;
+        }
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            ServerVariable variable = variables.get(entry.getKey());
+            List<String> enumeration = variable == null ? null : variable.getEnumeration();
+            if (enumeration != null && !enumeration.isEmpty() && !enumeration.contains(entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the server URL this template was compiled from.
+     *
+     * @return the server URL
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Returns the names of the variables of this template.
+     *
+     * @return an unmodifiable list of variable names, in order of first appearance
+     */
+    public List<String> getVariableNames() {
+        return variableNames;
+    }
+
+    /**
+     * Substitutes the given values for the variables of this template.
+     *
+     * @param values
+     *            the values of the variables, by name
+     * @return the URL
+     * @throws IllegalArgumentException
+     *             if no value is given for a variable of this template
+     */
+    public String expand(Map<String, String> values) {
+        if (names.length == 0) {
+            return template;
+        }
+        StringBuilder sb = new StringBuilder(template.length() + 16);
+        for (int i = 0; i < names.length; i++) {
+            String value = values == null ? null : values.get(names[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("No value for server variable " + names[i] + " of " + template);
+            }
+            sb.append(literals[i]).append(value);
+        }
+        return sb.append(literals[names.length]).toString();
+    }
+
+    /**
+     * Substitutes values for the variables of this template, taking each value from the given map if present, or
+     * else from the default value of the corresponding variable of the given server.
+     *
+     * @param server
+     *            the server which defines the variables, may be {@code null}
+     * @param values
+     *            the values of the variables which override the default values, by name, may be {@code null}
+     * @return the URL
+     * @throws IllegalArgumentException
+     *             if there is no value for a variable of this template, or if the value of a variable is not one of
+     *             the enumerated values of the corresponding {@link ServerVariable}
+     */
+    public String expand(Server server, Map<String, String> values) {
+        if (names.length == 0) {
+            return template;
+        }
+        Map<String, ServerVariable> variables = server == null ? null : server.getVariables();
+        Map<String, String> resolved = new LinkedHashMap<>();
+        for (String name : variableNames) {
+            ServerVariable variable = variables == null ? null : variables.get(name);
+            String value = values == null ? null : values.get(name);
+            if (value == null && variable != null) {
+                value = variable.getDefaultValue();
+            }
+            if (value != null) {
+                resolved.put(name, value);
+            }
+        }
+        if (!isAllowed(resolved, variables)) {
+            throw new IllegalArgumentException("Value not allowed for a server variable of " + template + ": "
+                    + resolved);
+        }
+        return expand(resolved);
+    }
+
+    /**
+     * Matches a concrete URL against this template. Literal text must match exactly, and each variable matches any
+     * text, including the empty string, with the shortest values preferred from left to right. A variable which
+     * appears more than once must have the same value each time.
+     *
+     * @param url
+     *            the concrete URL
+     * @return the values of the variables by name, in order of first appearance, or {@code null} if the URL does not
+     *         match
+     */
+    public Map<String, String> match(String url) {
+        if (url == null) {
+            return null;
+        }
+        if (names.length == 0) {
+            return template.equals(url) ? Collections.emptyMap() : null;
+        }
+        Pattern p = pattern;
+        if (p == null) {
+            p = compilePattern(null);
+            pattern = p;
+        }
+        return values(p, url);
+    }
+
+    /**
+     * Matches a concrete URL against this template, as by {@link #match(String)}, except that the value of a variable
+     * must be one of the enumerated values of the corresponding {@link ServerVariable}, if any. The enumerated values
+     * are part of the compiled pattern, so that a URL which could be split in several ways is matched with the values
+     * allowed for its variables, longer enumerated values being preferred.
+     *
+     * @param url
+     *            the concrete URL
+     * @param variables
+     *            the variables of the server, by name, may be {@code null}
+     * @return the values of the variables by name, in order of first appearance, or {@code null} if the URL does not
+     *         match
+     */
+    public Map<String, String> match(String url, Map<String, ServerVariable> variables) {
+        if (url == null || names.length == 0 || variables == null || variables.isEmpty()) {
+            return match(url);
+        }
+        List<List<String>> enumerations = new ArrayList<>(variableNames.size());
+        boolean constrainedVariables = false;
+        for (String name : variableNames) {
+            ServerVariable variable = variables.get(name);
+            List<String> enumeration = variable == null ? null : variable.getEnumeration();
+            if (enumeration != null && enumeration.isEmpty()) {
+                enumeration = null;
+            }
+            constrainedVariables |= enumeration != null;
+            enumerations.add(enumeration);
+        }
+        if (!constrainedVariables) {
+            return match(url);
+        }
+        Constrained c = constrained;
+        if (c == null || !c.enumerations.equals(enumerations)) {
+            c = new Constrained(enumerations, compilePattern(enumerations));
+            constrained = c;
+        }
+        return values(c.pattern, url);
+    }
+
+    // Compiles the pattern of this template, in which the first occurrence of each variable is a named group, either
+    // lazy or an alternation of its enumerated values, and later occurrences are back-references to that group
+    private Pattern compilePattern(List<List<String>> enumerations) {
+        StringBuilder sb = new StringBuilder();
+        boolean[] seen = new boolean[variableNames.size()];
+        for (int i = 0; i < names.length; i++) {
+            if (!literals[i].isEmpty()) {
+                sb.append(Pattern.quote(literals[i]));
+            }
+            int variable = variables[i];
+            if (seen[variable]) {
+                sb.append("\\k<v").append(variable).append('>');
+                continue;
+            }
+            seen[variable] = true;
+            List<String> enumeration = enumerations == null ? null : enumerations.get(variable);
+            sb.append("(?<v").append(variable).append('>');
+            if (enumeration == null) {
+                sb.append(".*?");
+            } else {
+                // Longer values are tried first, so that "eu-west" is preferred to "eu" when both match
+                List<String> alternatives = new ArrayList<>(enumeration);
+                alternatives.removeIf(value -> value == null);
+                alternatives.sort(Comparator.comparingInt(String::length).reversed());
+                for (int j = 0; j < alternatives.size(); j++) {
+                    if (j > 0) {
+                        sb.append('|');
+                    }
+                    sb.append(Pattern.quote(alternatives.get(j)));
+                }
+            }
+            sb.append(')');
+        }
+        if (!literals[names.length].isEmpty()) {
+            sb.append(Pattern.quote(literals[names.length]));
+        }
+        return Pattern.compile(sb.toString(), Pattern.DOTALL);
+    }
+
+    private Map<String, String> values(Pattern p, String url) {
+        Matcher matcher = p.matcher(url);
+        if (!matcher.matches()) {
+            return null;
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < variableNames.size(); i++) {
+            values.put(variableNames.get(i), matcher.group("v" + i));
+        }
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof ServerUrlTemplate && template.equals(((ServerUrlTemplate) obj).template);
+    }
+
+    @Override
+    public int hashCode() {
+        return template.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
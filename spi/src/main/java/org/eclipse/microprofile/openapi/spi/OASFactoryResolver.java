@@ -53,6 +53,56 @@ public abstract class OASFactoryResolver {
      */
     public abstract <T extends Constructible> T createObject(Class<T> clazz);
 
+    /**
+     * Returns a canonical instance of the given string value.
+     * <p>
+     * Values such as media types, response codes, schema formats, references and tag names typically occur many times
+     * within a single OpenAPI model. Readers of static files, annotation scanners and {@code OASModelReader}
+     * implementations may pass such values through this method so that equal values share a single instance.
+     * <p>
+     * The default implementation delegates to {@link String#intern()}. Implementations may override this method to use
+     * their own pool.
+     *
+     * @param value
+     *            the value to intern, may be {@code null}
+     * @return a string equal to the given value, which is the same instance for all equal values, or {@code null} if
+     *         the given value is {@code null}
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        return value.intern();
+    }
+
+    /**
+     * Returns a shared instance of the given model object.
+     * <p>
+     * Some model objects, such as security requirements and servers, are typically repeated on many operations of a
+     * single OpenAPI model. Implementations may override this method to return, for all equal objects, a single
+     * immutable instance which can be placed at each of these locations, so that the model holds one object tree
+     * instead of one per location.
+     * <p>
+     * The returned object must be treated as immutable. If it is not the given object, all of its mutators, including
+     * the {@code addX} and {@code removeX} methods and the mutators of its descendants, throw an
+     * {@link UnsupportedOperationException} and leave it unchanged, and the lists and maps returned by its getters are
+     * unmodifiable. The default implementation returns the given object.
+     * <p>
+     * Since a modification made by an {@code OASFilter} to one occurrence of a shared object would be visible at every
+     * other occurrence, implementations must only share the objects of a model once it has been filtered, and must
+     * pass unshared copies to the filter of any objects which were shared before, e.g. by an {@code OASModelReader}.
+     *
+     * @param <T>
+     *            the type of the model object
+     * @param object
+     *            the model object to share, may be {@code null}
+     * @return an object equal to the given object, which may be the same instance for all equal objects, or
+     *         {@code null} if the given object is {@code null}
+     */
+    public <T extends Constructible> T share(T object) {
+        return object;
+    }
+
     /**
      * Creates an OASFactoryResolver object. Only used internally from within
      * {@link org.eclipse.microprofile.openapi.OASFactory}
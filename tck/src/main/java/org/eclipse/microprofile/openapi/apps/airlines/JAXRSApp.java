@@ -118,6 +118,7 @@ import jakarta.ws.rs.core.MediaType;
                                      operations = {
                                              @PathItemOperation(method = "put",
                                                                 summary = "Notifies that a booking has been created",
+                                                                operationId = "bookingCreatedEvent",
                                                                 requestBody = @RequestBody(content = @Content(mediaType = "application/json",
                                                                                                               schema = @Schema(ref = "#/components/schemas/Booking"))),
                                                                 responses = @APIResponse(responseCode = "204",
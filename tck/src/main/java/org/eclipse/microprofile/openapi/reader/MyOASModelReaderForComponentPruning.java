@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.reader;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.OASModelReader;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+
+public class MyOASModelReaderForComponentPruning implements OASModelReader {
+
+    @Override
+    public OpenAPI buildModel() {
+        return OASFactory.createOpenAPI()
+                .info(OASFactory.createInfo()
+                        .title("Component Pruning API")
+                        .version("1.0"))
+                .components(OASFactory.createComponents()
+                        .addSchema("Flight", OASFactory.createSchema()
+                                .addType(SchemaType.OBJECT)
+                                .addProperty("number", OASFactory.createSchema()
+                                        .addType(SchemaType.STRING))
+                                .addProperty("departure", schemaRef("Airport")))
+                        .addSchema("Airport", OASFactory.createSchema()
+                                .addType(SchemaType.OBJECT)
+                                .addProperty("code", OASFactory.createSchema()
+                                        .addType(SchemaType.STRING)))
+                        .addSchema("Aircraft", OASFactory.createSchema()
+                                .addType(SchemaType.OBJECT)
+                                .discriminator(OASFactory.createDiscriminator()
+                                        .propertyName("kind")
+                                        .addMapping("jet", "Jet")
+                                        .addMapping("prop", "#/components/schemas/Propeller")))
+                        .addSchema("Jet", OASFactory.createSchema()
+                                .addAllOf(schemaRef("Aircraft")))
+                        .addSchema("Propeller", OASFactory.createSchema()
+                                .addAllOf(schemaRef("Aircraft")))
+                        .addSchema("Booking", OASFactory.createSchema()
+                                .addType(SchemaType.OBJECT)
+                                .addProperty("passenger", schemaRef("Passenger")))
+                        .addSchema("Passenger", OASFactory.createSchema()
+                                .addType(SchemaType.OBJECT)
+                                .addProperty("name", OASFactory.createSchema()
+                                        .addType(SchemaType.STRING)))
+                        .addSchema("Orphan", OASFactory.createSchema()
+                                .addType(SchemaType.STRING))
+                        .addResponse("NotFound", OASFactory.createAPIResponse()
+                                .description("Not found"))
+                        .addResponse("Conflict", OASFactory.createAPIResponse()
+                                .description("Booking conflict"))
+                        .addSecurityScheme("flightKey", apiKey("X-Flight-Key"))
+                        .addSecurityScheme("bookingKey", apiKey("X-Booking-Key"))
+                        .addSecurityScheme("unusedKey", apiKey("X-Unused-Key")))
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/flights", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation()
+                                        .operationId("getFlights")
+                                        .addSecurityRequirement(OASFactory.createSecurityRequirement()
+                                                .addScheme("flightKey"))
+                                        .responses(OASFactory.createAPIResponses()
+                                                .addAPIResponse("200", OASFactory.createAPIResponse()
+                                                        .description("Success")
+                                                        .content(json(OASFactory.createSchema()
+                                                                .addType(SchemaType.ARRAY)
+                                                                .items(schemaRef("Flight")))))
+                                                .addAPIResponse("404", OASFactory.createAPIResponse()
+                                                        .ref("#/components/responses/NotFound")))))
+                        .addPathItem("/aircraft", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation()
+                                        .operationId("getAircraft")
+                                        .responses(OASFactory.createAPIResponses()
+                                                .addAPIResponse("200", OASFactory.createAPIResponse()
+                                                        .description("Success")
+                                                        .content(json(schemaRef("Aircraft")))))))
+                        .addPathItem("/bookings", OASFactory.createPathItem()
+                                .POST(OASFactory.createOperation()
+                                        .operationId("createBooking")
+                                        .addSecurityRequirement(OASFactory.createSecurityRequirement()
+                                                .addScheme("bookingKey"))
+                                        .requestBody(OASFactory.createRequestBody()
+                                                .content(json(schemaRef("Booking"))))
+                                        .responses(OASFactory.createAPIResponses()
+                                                .addAPIResponse("201", OASFactory.createAPIResponse()
+                                                        .description("Created"))
+                                                .addAPIResponse("409", OASFactory.createAPIResponse()
+                                                        .ref("#/components/responses/Conflict"))))));
+    }
+
+    private static Schema schemaRef(String name) {
+        return OASFactory.createSchema().ref("#/components/schemas/" + name);
+    }
+
+    private static Content json(Schema schema) {
+        return OASFactory.createContent()
+                .addMediaType("application/json", OASFactory.createMediaType()
+                        .schema(schema));
+    }
+
+    private static SecurityScheme apiKey(String name) {
+        return OASFactory.createSecurityScheme()
+                .type(SecurityScheme.Type.APIKEY)
+                .in(SecurityScheme.In.HEADER)
+                .name(name);
+    }
+}
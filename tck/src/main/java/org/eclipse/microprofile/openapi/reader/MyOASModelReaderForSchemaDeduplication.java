@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.reader;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.OASModelReader;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+
+public class MyOASModelReaderForSchemaDeduplication implements OASModelReader {
+
+    @Override
+    public OpenAPI buildModel() {
+        return OASFactory.createOpenAPI()
+                .info(OASFactory.createInfo()
+                        .title("Schema Deduplication API")
+                        .version("1.0"))
+                .components(OASFactory.createComponents()
+                        .addSchema("Error", errorSchema()))
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/flights", OASFactory.createPathItem()
+                                .GET(operation("getFlights", envelopeSchema())))
+                        .addPathItem("/airports", OASFactory.createPathItem()
+                                .GET(operation("getAirports", envelopeSchema())))
+                        .addPathItem("/airlines", OASFactory.createPathItem()
+                                .GET(operation("getAirlines", envelopeSchema())))
+                        .addPathItem("/weather", OASFactory.createPathItem()
+                                .GET(operation("getWeather", OASFactory.createSchema()
+                                        .addType(SchemaType.OBJECT)
+                                        .addProperty("temperature", OASFactory.createSchema()
+                                                .addType(SchemaType.NUMBER))))));
+    }
+
+    private static Operation operation(String operationId, Schema responseSchema) {
+        return OASFactory.createOperation()
+                .operationId(operationId)
+                .responses(OASFactory.createAPIResponses()
+                        .addAPIResponse("200", OASFactory.createAPIResponse()
+                                .description("Success")
+                                .content(OASFactory.createContent()
+                                        .addMediaType("application/json", OASFactory.createMediaType()
+                                                .schema(responseSchema))))
+                        .addAPIResponse("404", OASFactory.createAPIResponse()
+                                .description("Not found")
+                                .content(OASFactory.createContent()
+                                        .addMediaType("application/json", OASFactory.createMediaType()
+                                                .schema(errorSchema())))));
+    }
+
+    private static Schema envelopeSchema() {
+        return OASFactory.createSchema()
+                .title("Envelope")
+                .addType(SchemaType.OBJECT)
+                .addProperty("status", OASFactory.createSchema()
+                        .addType(SchemaType.INTEGER))
+                .addProperty("data", OASFactory.createSchema()
+                        .addType(SchemaType.ARRAY)
+                        .items(OASFactory.createSchema()
+                                .addType(SchemaType.STRING)));
+    }
+
+    private static Schema errorSchema() {
+        return OASFactory.createSchema()
+                .addType(SchemaType.OBJECT)
+                .addProperty("code", OASFactory.createSchema()
+                        .addType(SchemaType.INTEGER))
+                .addProperty("message", OASFactory.createSchema()
+                        .addType(SchemaType.STRING));
+    }
+}
@@ -101,7 +101,7 @@ public abstract class AppTestBase extends Arquillian {
         String ref = response.path(path + ".$ref");
 
         if (ref != null) {
-            return ref.replaceFirst("^#/?", "").replace('/', '.');
+            return toPath(ref);
         } else {
             return path;
         }
@@ -143,8 +143,8 @@ public abstract class AppTestBase extends Arquillian {
      * {@code "components.schemas.Employee"} contains a {@code .$ref} which itself resolves to the schema
      * {@code "components.schemas.Person"} and the second path segment is appended to the resolved reference.
      *
-     * Note that this method does not currently support the conversion of Json Pointer escape sequences ({@code ~0} and
-     * {@code ~1}) in {@code $ref} values.
+     * Json Pointer escape sequences ({@code ~0} and {@code ~1}) in {@code $ref} values are converted, and reference
+     * tokens which are not valid identifiers are quoted in the returned path.
      *
      * @param vr
      *            the response
@@ -173,7 +173,7 @@ public abstract class AppTestBase extends Arquillian {
 
             if (ref != null) {
                 absolutePath.setLength(0);
-                absolutePath.append(ref.replaceFirst("^#/?", "").replace('/', '.'));
+                absolutePath.append(toPath(ref));
             } else {
                 // No $ref, keep appending
                 if (absolutePath.length() > 0) {
@@ -188,6 +188,29 @@ public abstract class AppTestBase extends Arquillian {
         return absolutePath.toString();
     }
 
+    /**
+     * Converts a {@code $ref} value into a path which can be used to lookup the referenced object in a response.
+     *
+     * @param ref
+     *            a JSON pointer in URI fragment form, e.g. {@code #/paths/~1pets~1{id}}
+     * @return the corresponding path, e.g. {@code paths.'/pets/{id}'}
+     */
+    private static String toPath(String ref) {
+        StringBuilder path = new StringBuilder();
+        for (String token : ref.replaceFirst("^#/?", "").split("/", -1)) {
+            token = token.replace("~1", "/").replace("~0", "~");
+            if (path.length() > 0) {
+                path.append('.');
+            }
+            if (token.matches("[A-Za-z_$][A-Za-z0-9_$]*")) {
+                path.append(token);
+            } else {
+                path.append('\'').append(token).append('\'');
+            }
+        }
+        return path.toString();
+    }
+
     @DataProvider(name = "formatProvider")
     public Object[][] provide() {
         return new Object[][]{{"JSON"}, {"YAML"}};
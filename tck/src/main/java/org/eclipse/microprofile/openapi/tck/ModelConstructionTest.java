@@ -22,17 +22,21 @@ package org.eclipse.microprofile.openapi.tck;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
 import java.beans.Introspector;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
@@ -41,6 +45,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -48,8 +53,10 @@ import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.expressions.RuntimeExpression;
 import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.Extensible;
@@ -58,6 +65,7 @@ import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.Operation;
 import org.eclipse.microprofile.openapi.models.PathItem;
 import org.eclipse.microprofile.openapi.models.PathItem.HttpMethod;
+import org.eclipse.microprofile.openapi.models.PathRouter;
 import org.eclipse.microprofile.openapi.models.Paths;
 import org.eclipse.microprofile.openapi.models.Reference;
 import org.eclipse.microprofile.openapi.models.callbacks.Callback;
@@ -71,6 +79,7 @@ import org.eclipse.microprofile.openapi.models.media.Content;
 import org.eclipse.microprofile.openapi.models.media.Discriminator;
 import org.eclipse.microprofile.openapi.models.media.Encoding;
 import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.NumericValue;
 import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.eclipse.microprofile.openapi.models.media.XML;
 import org.eclipse.microprofile.openapi.models.parameters.Parameter;
@@ -82,12 +91,14 @@ import org.eclipse.microprofile.openapi.models.security.OAuthFlows;
 import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
 import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
 import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.servers.ServerUrlTemplate;
 import org.eclipse.microprofile.openapi.models.servers.ServerVariable;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.arquillian.testng.Arquillian;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.SkipException;
 import org.testng.annotations.Test;
 
 /**
@@ -139,6 +150,11 @@ public class ModelConstructionTest extends Arquillian {
                 .addAsManifestResource("microprofile-reader.properties", "microprofile-config.properties");
     }
 
+    // Number of entries of the containers used to check that keyed lookups do not copy them
+    private static final int LOOKUP_CONTAINER_SIZE = 1000;
+    // A copy of a container of LOOKUP_CONTAINER_SIZE entries takes several times this number of bytes
+    private static final long LOOKUP_ALLOCATION_LIMIT = 4096;
+
     // Container for matched getter, setter and builder methods
     static final class Property {
         private final String name;
@@ -1732,6 +1748,1077 @@ public class ModelConstructionTest extends Arquillian {
         processConstructible(Tag.class);
     }
 
+    @Test
+    public void internTest() {
+        final String value1 = new String("application/json");
+        final String value2 = new String("application/json");
+        final String interned1 = OASFactory.intern(value1);
+        final String interned2 = OASFactory.intern(value2);
+        assertEquals(interned1, value1, "The interned value is expected to be equal to the given value.");
+        assertSame(interned2, interned1, "Equal values are expected to be interned to the same instance.");
+        assertSame(OASFactory.intern(interned1), interned1, "An interned value is expected to be returned as-is.");
+        assertNull(OASFactory.intern(null), "Interning null is expected to return null.");
+    }
+
+    @Test
+    public void shareTest() {
+        final SecurityRequirement requirement = OASFactory.createSecurityRequirement().addScheme("apiKey");
+        final SecurityRequirement shared = OASFactory.share(requirement);
+        assertEquals(shared, requirement, "The shared object is expected to be equal to the given object.");
+        assertTrue(shared.hasScheme("apiKey"), "The shared object is expected to contain the given scheme.");
+
+        final Server server = OASFactory.createServer().url("https://example.com/v1").description("Production");
+        final Server sharedServer = OASFactory.share(server);
+        assertEquals(sharedServer.getUrl(), "https://example.com/v1", "The shared server URL is expected to be kept.");
+        assertEquals(OASFactory.share(sharedServer), sharedServer,
+                "Sharing a shared object is expected to return an equal object.");
+        assertNull(OASFactory.share(null), "Sharing null is expected to return null.");
+
+        // Sharing equal objects must return equal objects, and sharing different objects different ones
+        final SecurityRequirement sharedCopy =
+                OASFactory.share(OASFactory.createSecurityRequirement().addScheme("apiKey"));
+        assertEquals(sharedCopy, shared, "Sharing equal objects is expected to return equal objects.");
+        assertEquals(sharedCopy.hashCode(), shared.hashCode(), "Equal shared objects must have the same hash code.");
+        final Server serverCopy = OASFactory.createServer().url("https://example.com/v1").description("Production");
+        assertEquals(OASFactory.share(serverCopy), sharedServer,
+                "Sharing equal objects is expected to return equal objects.");
+        final SecurityRequirement sharedOther =
+                OASFactory.share(OASFactory.createSecurityRequirement().addScheme("oauth"));
+        assertFalse(sharedOther.equals(shared), "Sharing different objects is expected to return different objects.");
+
+        // A shared instance other than the given object must reject modifications, including additions and removals
+        if (shared != requirement) {
+            try {
+                shared.addScheme("other");
+                fail("Expected an UnsupportedOperationException when adding to a shared object.");
+            } catch (UnsupportedOperationException e) {
+                // Expected
+            }
+            try {
+                shared.removeScheme("apiKey");
+                fail("Expected an UnsupportedOperationException when removing from a shared object.");
+            } catch (UnsupportedOperationException e) {
+                // Expected
+            }
+            assertEquals(shared, requirement,
+                    "A shared object is expected to be unchanged by a rejected modification.");
+        }
+    }
+
+    @Test
+    public void structuralEqualityTest() {
+        final Supplier<Schema> envelope = () -> OASFactory.createSchema()
+                .title("Envelope")
+                .addType(Schema.SchemaType.OBJECT)
+                .addProperty("status", OASFactory.createSchema().addType(Schema.SchemaType.INTEGER))
+                .addProperty("data", OASFactory.createSchema().addType(Schema.SchemaType.STRING))
+                .addExtension("x-envelope", "true");
+
+        final Schema s1 = envelope.get();
+        final Schema s2 = envelope.get();
+        assertNotSame(s1, s2, "Expecting two different instances.");
+        assertEquals(s1, s2, "Schemas with the same properties are expected to be equal.");
+        assertEquals(s1.hashCode(), s2.hashCode(), "Equal schemas are expected to have the same hash code.");
+        assertEquals(s1, s1, "A schema is expected to be equal to itself.");
+        assertFalse(s1.equals(null), "A schema is expected not to be equal to null.");
+
+        // A change to a property must be reflected by equals and hashCode
+        s2.setDescription("A response envelope");
+        assertFalse(s1.equals(s2), "Schemas with different descriptions are expected not to be equal.");
+        s1.setDescription("A response envelope");
+        assertEquals(s1, s2, "Schemas are expected to be equal after the same modification.");
+        assertEquals(s1.hashCode(), s2.hashCode(), "Equal schemas are expected to have the same hash code.");
+
+        // A change to a descendant must be reflected by equals and hashCode of its ancestors, even when a hash code
+        // has already been computed
+        final Schema status = s2.getProperties().get("status");
+        status.setFormat("int32");
+        assertFalse(s1.equals(s2), "Schemas with different nested properties are expected not to be equal.");
+        s1.getProperties().get("status").setFormat("int32");
+        assertEquals(s1, s2, "Schemas are expected to be equal after the same nested modification.");
+        assertEquals(s1.hashCode(), s2.hashCode(), "Equal schemas are expected to have the same hash code.");
+
+        // Extensions take part in equality
+        s2.addExtension("x-other", "value");
+        assertFalse(s1.equals(s2), "Schemas with different extensions are expected not to be equal.");
+        s2.removeExtension("x-other");
+        assertEquals(s1, s2, "Schemas are expected to be equal once the extension is removed.");
+
+        // References take part in equality
+        final Schema r1 = OASFactory.createSchema().ref("Envelope");
+        final Schema r2 = OASFactory.createSchema().ref("#/components/schemas/Envelope");
+        final Schema r3 = OASFactory.createSchema().ref("Error");
+        assertEquals(r1, r2, "References to the same schema are expected to be equal.");
+        assertEquals(r1.hashCode(), r2.hashCode(), "Equal references are expected to have the same hash code.");
+        assertFalse(r1.equals(r3), "References to different schemas are expected not to be equal.");
+
+        // Objects implementing different model interfaces are never equal
+        assertFalse(OASFactory.createServer().equals(OASFactory.createExternalDocumentation()),
+                "Model objects of different types are expected not to be equal.");
+
+        // Equal model objects can be used as keys of hash-based collections
+        final Map<Object, String> map = new HashMap<>();
+        map.put(OASFactory.createOperation().operationId("getBooking")
+                .responses(OASFactory.createAPIResponses().addAPIResponse("200",
+                        OASFactory.createAPIResponse().description("Success"))),
+                "value");
+        assertEquals(map.get(OASFactory.createOperation().operationId("getBooking")
+                .responses(OASFactory.createAPIResponses().addAPIResponse("200",
+                        OASFactory.createAPIResponse().description("Success")))),
+                "value", "An equal operation is expected to be found in the map.");
+        assertNull(map.get(OASFactory.createOperation().operationId("getBooking")),
+                "A different operation is expected not to be found in the map.");
+    }
+
+    @Test
+    public void resolveTest() {
+        final Schema pet = OASFactory.createSchema().title("Pet");
+        final APIResponse notFound = OASFactory.createAPIResponse().description("Not found");
+        final Parameter routing = OASFactory.createParameter().name("hostName");
+        final Components c = OASFactory.createComponents()
+                .addSchema("Pet", pet)
+                .addResponse("NotFound", notFound)
+                .addParameter("Routing.HostName", routing);
+        checkSameObject(pet, c.resolve("#/components/schemas/Pet"));
+        checkSameObject(notFound, c.resolve("#/components/responses/NotFound"));
+        checkSameObject(routing, c.resolve("#/components/parameters/Routing.HostName"));
+        assertNull(c.resolve("#/components/schemas/Dog"), "A missing component is expected to resolve to null.");
+        assertNull(c.resolve("#/components/responses/Pet"), "A component of another type is expected not to resolve.");
+        assertNull(c.resolve("#/components/unknown/Pet"), "An unknown component type is expected not to resolve.");
+        assertNull(c.resolve("other.yaml#/components/schemas/Pet"),
+                "An external reference is expected not to resolve.");
+        assertNull(c.resolve(null), "A null reference is expected to resolve to null.");
+
+        // The lookup must reflect modifications of the components
+        c.removeSchema("Pet");
+        assertNull(c.resolve("#/components/schemas/Pet"), "A removed component is expected not to resolve.");
+        final Schema dog = OASFactory.createSchema().title("Dog");
+        c.addSchema("Dog", dog);
+        checkSameObject(dog, c.resolve("#/components/schemas/Dog"));
+
+        final Operation getPet = OASFactory.createOperation().operationId("getPet");
+        final PathItem petPath = OASFactory.createPathItem().GET(getPet);
+        final PathItem newPet = OASFactory.createPathItem();
+        final OpenAPI o = OASFactory.createOpenAPI()
+                .components(c)
+                .paths(OASFactory.createPaths().addPathItem("/pets/{id}", petPath))
+                .addWebhook("newPet", newPet);
+        checkSameObject(dog, o.resolve("#/components/schemas/Dog"));
+        checkSameObject(petPath, o.resolve("#/paths/~1pets~1{id}"));
+        checkSameObject(petPath, o.resolve("#/paths/~1pets~1%7Bid%7D"));
+        checkSameObject(getPet, o.resolve("#/paths/~1pets~1{id}/get"));
+        checkSameObject(newPet, o.resolve("#/webhooks/newPet"));
+        assertNull(o.resolve("#/paths/~1pets~1{id}/put"), "A missing operation is expected to resolve to null.");
+        assertNull(o.resolve("#/paths/pets"), "A path without an escaped slash is expected not to resolve.");
+        assertNull(o.resolve("#/webhooks/oldPet"), "A missing webhook is expected to resolve to null.");
+
+        // Escape sequences are decoded in order, so "~01" is "~1" and not "/"
+        final PathItem tildePath = OASFactory.createPathItem();
+        o.getPaths().addPathItem("/~1", tildePath);
+        checkSameObject(tildePath, o.resolve("#/paths/~1~01"));
+    }
+
+    @Test
+    public void findReferencesTest() {
+        final Schema petRef = OASFactory.createSchema().ref("#/components/schemas/Pet");
+        final Schema listRef = OASFactory.createSchema().ref("#/components/schemas/Pet");
+        final Discriminator byName = OASFactory.createDiscriminator().propertyName("kind").addMapping("pet", "Pet");
+        final SecurityRequirement apiKey = OASFactory.createSecurityRequirement().addScheme("apiKey");
+        final Operation getPet = OASFactory.createOperation()
+                .addSecurityRequirement(apiKey)
+                .responses(OASFactory.createAPIResponses()
+                        .addAPIResponse("200", OASFactory.createAPIResponse()
+                                .content(OASFactory.createContent()
+                                        .addMediaType("application/json", OASFactory.createMediaType()
+                                                .schema(petRef)))));
+        final OpenAPI o = OASFactory.createOpenAPI()
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/pets/{id}", OASFactory.createPathItem().GET(getPet)))
+                .components(OASFactory.createComponents()
+                        .addSchema("Pet", OASFactory.createSchema().title("Pet"))
+                        .addSchema("Pets", OASFactory.createSchema().items(listRef))
+                        .addSchema("Animal", OASFactory.createSchema().discriminator(byName))
+                        .addSecurityScheme("apiKey", OASFactory.createSecurityScheme()));
+
+        Map<String, Constructible> refs = o.findReferences("#/components/schemas/Pet");
+        assertEquals(refs.size(), 3, "Unexpected number of references to the Pet schema: " + refs.keySet());
+        checkSameObject(petRef,
+                refs.get("#/paths/~1pets~1{id}/get/responses/200/content/application~1json/schema"));
+        checkSameObject(listRef, refs.get("#/components/schemas/Pets/items"));
+        checkSameObject(byName, refs.get("#/components/schemas/Animal/discriminator"));
+
+        refs = o.findReferences("#/components/securitySchemes/apiKey");
+        assertEquals(refs.size(), 1, "Unexpected number of references to the apiKey scheme: " + refs.keySet());
+        checkSameObject(apiKey, refs.get("#/paths/~1pets~1{id}/get/security/0"));
+
+        assertThat(o.findReferences("#/components/schemas/Dog"), anEmptyMap());
+        assertThat(o.findReferences("other.yaml#/components/schemas/Pet"), anEmptyMap());
+
+        // The lookup must reflect modifications of the model
+        o.getPaths().removePathItem("/pets/{id}");
+        refs = o.findReferences("#/components/schemas/Pet");
+        assertEquals(refs.size(), 2, "Unexpected number of references to the Pet schema: " + refs.keySet());
+        assertThat(o.findReferences("#/components/securitySchemes/apiKey"), anEmptyMap());
+    }
+
+    @Test
+    public void findOperationTest() {
+        final Operation getPet = OASFactory.createOperation().operationId("getPet");
+        final Operation petCallback = OASFactory.createOperation().operationId("petCallback");
+        final Operation createPet = OASFactory.createOperation().operationId("createPet")
+                .addCallback("onCreate", OASFactory.createCallback()
+                        .addPathItem("{$request.body#/callbackUrl}", OASFactory.createPathItem().POST(petCallback)));
+        final Operation newPet = OASFactory.createOperation().operationId("newPet");
+        final OpenAPI o = OASFactory.createOpenAPI()
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/pets", OASFactory.createPathItem().POST(createPet))
+                        .addPathItem("/pets/{id}", OASFactory.createPathItem().GET(getPet)))
+                .addWebhook("newPet", OASFactory.createPathItem().PUT(newPet))
+                .components(OASFactory.createComponents()
+                        .addPathItem("Shared", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation().operationId("sharedOperation"))));
+        checkSameObject(getPet, o.findOperation("getPet"));
+        checkSameObject(createPet, o.findOperation("createPet"));
+        checkSameObject(petCallback, o.findOperation("petCallback"));
+        checkSameObject(newPet, o.findOperation("newPet"));
+        assertNull(o.findOperation("sharedOperation"), "Operations of components are not expected to be found.");
+        assertNull(o.findOperation("deletePet"), "A missing operation is expected not to be found.");
+        assertNull(o.findOperation(null), "A null operationId is expected not to be found.");
+        assertThat(o.findDuplicateOperationIds(), empty());
+
+        // The lookup must reflect modifications of the model
+        getPet.setOperationId("getPetById");
+        assertNull(o.findOperation("getPet"), "A renamed operation is expected not to be found by its old id.");
+        checkSameObject(getPet, o.findOperation("getPetById"));
+        final Operation deletePet = OASFactory.createOperation().operationId("getPetById");
+        o.getPaths().getPathItem("/pets/{id}").DELETE(deletePet);
+        assertThat(o.findDuplicateOperationIds(), contains("getPetById"));
+        o.getPaths().removePathItem("/pets/{id}");
+        assertNull(o.findOperation("getPetById"), "A removed operation is expected not to be found.");
+        assertThat(o.findDuplicateOperationIds(), empty());
+    }
+
+    @Test
+    public void pathMatchTest() {
+        final Operation getBooking = OASFactory.createOperation().operationId("getBooking");
+        final Operation getMyBookings = OASFactory.createOperation().operationId("getMyBookings");
+        final Operation getFile = OASFactory.createOperation().operationId("getFile");
+        final Paths p = OASFactory.createPaths()
+                .addPathItem("/bookings/{id}", OASFactory.createPathItem().GET(getBooking))
+                .addPathItem("/bookings/mine", OASFactory.createPathItem().GET(getMyBookings))
+                .addPathItem("/files/{name}.json", OASFactory.createPathItem().GET(getFile));
+
+        Paths.Match m = p.match("/bookings/42", HttpMethod.GET);
+        assertNotNull(m, "Expected /bookings/42 to match.");
+        assertEquals(m.getPathTemplate(), "/bookings/{id}");
+        checkSameObject(p.getPathItem("/bookings/{id}"), m.getPathItem());
+        checkSameObject(getBooking, m.getOperation());
+        assertEquals(m.getPathParameters(), Collections.singletonMap("id", "42"));
+
+        // Literal segments take precedence over path parameters
+        m = p.match("/bookings/mine", HttpMethod.GET);
+        assertEquals(m.getPathTemplate(), "/bookings/mine");
+        checkSameObject(getMyBookings, m.getOperation());
+        assertThat(m.getPathParameters(), anEmptyMap());
+
+        m = p.match("/files/report.json", HttpMethod.GET);
+        assertEquals(m.getPathTemplate(), "/files/{name}.json");
+        assertEquals(m.getPathParameters(), Collections.singletonMap("name", "report"));
+
+        m = p.match("/bookings/42", HttpMethod.DELETE);
+        assertEquals(m.getPathTemplate(), "/bookings/{id}");
+        assertNull(m.getOperation(), "A method without an operation is expected to match no operation.");
+
+        assertNull(p.match("/bookings", HttpMethod.GET), "A path with fewer segments is expected not to match.");
+        assertNull(p.match("/bookings/42/seats", HttpMethod.GET),
+                "A path with more segments is expected not to match.");
+        assertNull(p.match("/bookings/", HttpMethod.GET), "An empty path parameter is expected not to match.");
+        assertNull(p.match("/files/report.xml", HttpMethod.GET),
+                "A different literal suffix is expected not to match.");
+
+        // The lookup must reflect modifications of the path items
+        p.removePathItem("/bookings/mine");
+        checkSameObject(getBooking, p.match("/bookings/mine", HttpMethod.GET).getOperation());
+
+        // A match keeps an unmodifiable copy of the path parameters
+        final Map<String, String> parameters = new HashMap<>(Collections.singletonMap("id", "42"));
+        final Paths.Match created = new Paths.Match("/bookings/{id}", null, null, parameters);
+        parameters.put("id", "43");
+        assertEquals(created.getPathParameters(), Collections.singletonMap("id", "42"),
+                "Expected the path parameters of a match not to reflect later changes of the given map.");
+        try {
+            created.getPathParameters().put("id", "44");
+            fail("Expected the path parameters of a match to be unmodifiable.");
+        } catch (UnsupportedOperationException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void pathRouterTest() {
+        final PathRouter<String> router = new PathRouter<>();
+        assertNull(router.add("/bookings/{id}", "getBooking"));
+        assertNull(router.add("/bookings/{id}.{format}", "getBookingAs"));
+        assertNull(router.add("/bookings/mine", "getMyBookings"));
+        assertNull(router.add("no-slash", "ignored"));
+        // A template which only differs by the names of its parameters is reported and not added
+        assertEquals(router.add("/bookings/{bookingId}", "other"), "/bookings/{id}");
+
+        PathRouter.Route<String> route = router.route("/bookings/42");
+        assertEquals(route.getPathTemplate(), "/bookings/{id}");
+        assertEquals(route.getTarget(), "getBooking");
+        assertEquals(route.getPathParameters(), Collections.singletonMap("id", "42"));
+        assertEquals(router.route("/bookings/mine").getTarget(), "getMyBookings");
+        route = router.route("/bookings/42.json");
+        assertEquals(route.getTarget(), "getBookingAs");
+        assertEquals(route.getPathParameters().get("format"), "json");
+        assertNull(router.route("/bookings/"), "An empty path parameter is expected not to match.");
+        assertNull(router.route("bookings/42"), "A path which does not begin with a slash is expected not to match.");
+
+        // Routing does not depend on the number of templates, nor on how many were compiled before
+        final Paths paths = OASFactory.createPaths();
+        for (int i = 0; i < 5000; i++) {
+            router.add("/items" + i + "/{id}", "item" + i);
+            paths.addPathItem("/items" + i + "/{id}", OASFactory.createPathItem().summary("item" + i));
+        }
+        for (int i = 0; i < 5000; i += 97) {
+            assertEquals(router.route("/items" + i + "/7").getTarget(), "item" + i);
+            assertEquals(paths.match("/items" + i + "/7", null).getPathItem().getSummary(), "item" + i);
+        }
+    }
+
+    @Test
+    public void compiledPatternTest() {
+        final Schema s = OASFactory.createSchema().pattern("^[a-z]+$");
+        final Pattern p = s.getCompiledPattern();
+        assertNotNull(p, "Expected a compiled pattern.");
+        assertTrue(p.matcher("abc").find());
+        assertFalse(p.matcher("abc1").find());
+        // In ECMA-262, $ only matches at the end of the input
+        assertFalse(p.matcher("abc\n").find(), "$ is not expected to match before a final line terminator.");
+        checkSameObject(p, s.getCompiledPattern());
+        checkSameObject(p, OASFactory.createSchema().pattern("^[a-z]+$").getCompiledPattern());
+        checkSameObject(p, Schema.compilePattern("^[a-z]+$"));
+
+        // The compiled pattern must reflect modifications of the pattern property
+        s.setPattern("^\\d{3}$");
+        assertTrue(s.getCompiledPattern().matcher("123").find());
+        s.setPattern(null);
+        assertNull(s.getCompiledPattern(), "Expected no compiled pattern when the pattern property is not set.");
+
+        // Patterns are not implicitly anchored
+        assertTrue(Schema.compilePattern("b").matcher("abc").find());
+        // Constructs which differ between ECMA-262 and Java
+        assertTrue(Schema.compilePattern("[[]").matcher("[").find());
+        assertTrue(Schema.compilePattern("[a&&b]").matcher("&").find());
+        assertTrue(Schema.compilePattern("a{").matcher("a{").find());
+        assertTrue(Schema.compilePattern("[^]").matcher("\n").find());
+        assertFalse(Schema.compilePattern("[]").matcher("a").find());
+        assertTrue(Schema.compilePattern("^\\s$").matcher("\u00a0").find());
+        assertTrue(Schema.compilePattern("^[\\s]$").matcher("\u2028").find());
+        assertFalse(Schema.compilePattern("\\S").matcher("\u00a0\u2028\u3000").find(),
+                "\\S is not expected to match non-ASCII whitespace.");
+        assertTrue(Schema.compilePattern("^\\S$").matcher("\u00e9").find());
+        assertFalse(Schema.compilePattern("[a\\S]").matcher("\u00a0").find(),
+                "[a\\S] is not expected to match non-ASCII whitespace.");
+        assertTrue(Schema.compilePattern("^[a\\S]$").matcher("b").find());
+        assertTrue(Schema.compilePattern("^[^a\\S]$").matcher("\u00a0").find());
+        assertFalse(Schema.compilePattern("[^a\\S]").matcher("ab").find(),
+                "[^a\\S] is not expected to match non-whitespace characters.");
+    }
+
+    @Test
+    public void enumerationContainsTest() {
+        final Schema s = OASFactory.createSchema();
+        assertFalse(s.enumerationContains("a"), "Expected no member when the enumeration is not set.");
+        assertFalse(s.enumerationContains(null), "Expected no member when the enumeration is not set.");
+
+        s.enumeration(Arrays.asList("PENDING", 1, Arrays.asList("x", 2), null));
+        assertTrue(s.enumerationContains("PENDING"));
+        assertTrue(s.enumerationContains(new StringBuilder("PENDING")));
+        assertFalse(s.enumerationContains(Schema.SchemaType.NULL));
+        assertTrue(s.enumerationContains(null));
+        assertFalse(s.enumerationContains("pending"));
+        // Numbers are compared by value, regardless of their Java type
+        assertTrue(s.enumerationContains(1));
+        assertTrue(s.enumerationContains(1L));
+        assertTrue(s.enumerationContains(1.0));
+        assertTrue(s.enumerationContains(new BigDecimal("1.00")));
+        assertTrue(s.enumerationContains(BigInteger.ONE));
+        assertFalse(s.enumerationContains(1.5));
+        assertFalse(s.enumerationContains("1"));
+        // Lists are compared recursively
+        assertTrue(s.enumerationContains(Arrays.asList("x", 2.0)));
+        assertFalse(s.enumerationContains(Arrays.asList(2, "x")));
+
+        // Enum constants of the model are equal to their value in the document
+        s.addEnumeration("array");
+        assertTrue(s.enumerationContains(Schema.SchemaType.ARRAY));
+        assertFalse(s.enumerationContains(Schema.SchemaType.OBJECT));
+
+        // Membership must reflect modifications of the enumeration
+        s.removeEnumeration(1);
+        assertFalse(s.enumerationContains(1L), "Expected a removed value not to be a member.");
+        s.addEnumeration(2.50);
+        assertTrue(s.enumerationContains(new BigDecimal("2.5")));
+        s.setEnumeration(null);
+        assertFalse(s.enumerationContains("PENDING"), "Expected no member when the enumeration is not set.");
+
+        // Large enumerations
+        final List<Object> values = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            values.add("VALUE_" + i);
+        }
+        s.setEnumeration(values);
+        assertTrue(s.enumerationContains("VALUE_9999"));
+        assertFalse(s.enumerationContains("VALUE_10000"));
+    }
+
+    @Test
+    public void normalizeValueTest() {
+        assertNull(Schema.normalizeValue(null));
+        assertEquals(Schema.normalizeValue(1), Schema.normalizeValue(1.0));
+        assertEquals(Schema.normalizeValue(1L).hashCode(), Schema.normalizeValue(new BigDecimal("1.00")).hashCode());
+        assertEquals(Schema.normalizeValue(BigInteger.TEN), Schema.normalizeValue(10.0f));
+        assertNotEquals(Schema.normalizeValue(1), Schema.normalizeValue(1.5));
+        assertNotEquals(Schema.normalizeValue(1), Schema.normalizeValue("1"));
+        assertEquals(Schema.normalizeValue(new StringBuilder("a")), "a");
+        assertEquals(Schema.normalizeValue(Schema.SchemaType.ARRAY), "array");
+        assertEquals(Schema.normalizeValue(0.1f), Schema.normalizeValue(0.1));
+        assertEquals(Schema.normalizeValue(true), true);
+
+        // Lists, and the keys and values of maps, are normalized recursively
+        assertEquals(Schema.normalizeValue(Arrays.asList(1, "a")), Schema.normalizeValue(Arrays.asList(1.0, "a")));
+        assertNotEquals(Schema.normalizeValue(Arrays.asList(1, 2)), Schema.normalizeValue(Arrays.asList(2, 1)));
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        map.put(new StringBuilder("a"), Arrays.asList(2L));
+        final Map<Object, Object> other = new HashMap<>();
+        other.put("a", Arrays.asList(new BigDecimal("2.0")));
+        assertEquals(Schema.normalizeValue(map), Schema.normalizeValue(other));
+        assertEquals(Schema.normalizeValue(map).hashCode(), Schema.normalizeValue(other).hashCode());
+
+        // The comparison is the one of enumerationContains
+        final Schema s = OASFactory.createSchema().enumeration(Arrays.asList(other));
+        assertTrue(s.enumerationContains(map));
+    }
+
+    @Test
+    public void numericValueTest() {
+        final Schema s = OASFactory.createSchema();
+        assertNull(s.getMinimumValue(), "Expected no value when the minimum property is not set.");
+        assertNull(s.getMultipleOfValue(), "Expected no value when the multipleOf property is not set.");
+
+        s.minimum(new BigDecimal("10.00")).exclusiveMaximum(new BigDecimal("0.1"))
+                .maximum(new BigDecimal("1e400")).exclusiveMinimum(BigDecimal.valueOf(-5))
+                .multipleOf(new BigDecimal("3"));
+        final NumericValue min = s.getMinimumValue();
+        assertEquals(min.bigDecimalValue(), new BigDecimal("10.00"));
+        assertTrue(min.isLong());
+        assertEquals(min.longValue(), 10L);
+        assertTrue(min.isExactDouble());
+        assertEquals(min.doubleValue(), 10.0);
+        assertEquals(min.compareTo(10), 0);
+        assertEquals(min.compareTo(10.0), 0);
+        assertTrue(min.compareTo(11L) < 0);
+        assertTrue(min.compareTo(9.999) > 0);
+        assertTrue(min.compareTo(new BigDecimal("10.0000001")) < 0);
+        assertEquals(min, NumericValue.of(BigDecimal.TEN));
+        assertEquals(min.hashCode(), NumericValue.of(BigDecimal.TEN).hashCode());
+        assertEquals(s.getExclusiveMinimumValue().longValue(), -5L);
+
+        // Values which cannot be represented exactly as a double are compared as decimals
+        final NumericValue tenth = s.getExclusiveMaximumValue();
+        assertFalse(tenth.isLong());
+        assertFalse(tenth.isExactDouble());
+        assertEquals(tenth.compareTo(0.1), 0);
+        assertTrue(tenth.compareTo(0.10000000000000002) < 0);
+        // The exact binary value of the double 0.1 is greater than the decimal 0.1
+        final NumericValue binaryTenth = NumericValue.of(new BigDecimal(0.1));
+        assertTrue(binaryTenth.isExactDouble());
+        assertTrue(binaryTenth.compareTo(0.1) > 0);
+        assertTrue(binaryTenth.compareTo(tenth.bigDecimalValue()) > 0);
+        assertTrue(NumericValue.of(new BigDecimal("9007199254740993")).compareTo(9007199254740992.0) > 0);
+        try {
+            tenth.longValue();
+            fail("Expected an ArithmeticException for a value which is not an integer.");
+        } catch (ArithmeticException e) {
+            // Expected
+        }
+
+        final NumericValue huge = s.getMaximumValue();
+        assertFalse(huge.isLong());
+        assertTrue(huge.compareTo(Double.MAX_VALUE) > 0);
+        assertTrue(huge.compareTo(Double.POSITIVE_INFINITY) < 0);
+        assertTrue(huge.compareTo(Long.MAX_VALUE) > 0);
+
+        final NumericValue three = s.getMultipleOfValue();
+        assertTrue(three.divides(9L));
+        assertTrue(three.divides(6.0));
+        assertFalse(three.divides(10));
+        assertFalse(three.divides(Double.NaN));
+        assertTrue(three.divides(new BigInteger("3000000000000000000000000000000")));
+        assertTrue(NumericValue.of(new BigDecimal("0.1")).divides(0.3));
+        assertFalse(NumericValue.of(new BigDecimal("0.1")).divides(0.35));
+
+        // The value must reflect modifications of the property
+        s.setMultipleOf(new BigDecimal("2.5"));
+        assertTrue(s.getMultipleOfValue().divides(7.5));
+        s.setMinimum(null);
+        assertNull(s.getMinimumValue(), "Expected no value when the minimum property is not set.");
+    }
+
+    @Test
+    public void getParameterTest() {
+        final Parameter limit = OASFactory.createParameter().name("limit").in(Parameter.In.QUERY);
+        final Parameter limitHeader = OASFactory.createParameter().name("Limit").in(Parameter.In.HEADER);
+        final Parameter id = OASFactory.createParameter().name("id").in(Parameter.In.PATH);
+        final Parameter ref = OASFactory.createParameter().ref("#/components/parameters/offset");
+
+        final Operation o = OASFactory.createOperation();
+        assertNull(o.getParameter("limit", Parameter.In.QUERY), "Expected no parameter when none is set.");
+        o.addParameter(ref).addParameter(limit).addParameter(limitHeader);
+        checkSameObject(limit, o.getParameter("limit", Parameter.In.QUERY));
+        assertNull(o.getParameter("Limit", Parameter.In.QUERY), "Query parameter names are case-sensitive.");
+        assertNull(o.getParameter("limit", Parameter.In.COOKIE), "Expected no parameter in another location.");
+        // Header names are case-insensitive
+        checkSameObject(limitHeader, o.getParameter("limit", Parameter.In.HEADER));
+        checkSameObject(limitHeader, o.getParameter("LIMIT", Parameter.In.HEADER));
+        assertNull(o.getParameter("offset", Parameter.In.QUERY), "Referenced parameters are not resolved.");
+
+        // The lookup must reflect modifications of the parameters
+        o.removeParameter(limit);
+        assertNull(o.getParameter("limit", Parameter.In.QUERY), "Expected a removed parameter not to be found.");
+        o.setParameters(Arrays.asList(limit, id));
+        checkSameObject(id, o.getParameter("id", Parameter.In.PATH));
+        assertNull(o.getParameter("Limit", Parameter.In.HEADER), "Expected a replaced parameter not to be found.");
+        o.setParameters(null);
+        assertNull(o.getParameter("id", Parameter.In.PATH), "Expected no parameter when none is set.");
+
+        final PathItem p = OASFactory.createPathItem();
+        assertNull(p.getParameter("id", Parameter.In.PATH), "Expected no parameter when none is set.");
+        p.addParameter(id).addParameter(limit);
+        checkSameObject(id, p.getParameter("id", Parameter.In.PATH));
+        checkSameObject(limit, p.getParameter("limit", Parameter.In.QUERY));
+        p.removeParameter(id);
+        assertNull(p.getParameter("id", Parameter.In.PATH), "Expected a removed parameter not to be found.");
+    }
+
+    @Test
+    public void negotiateTest() {
+        final MediaType xml = OASFactory.createMediaType();
+        final MediaType json = OASFactory.createMediaType();
+        final MediaType text = OASFactory.createMediaType();
+        final MediaType any = OASFactory.createMediaType();
+        final Content c = OASFactory.createContent();
+        assertNull(c.negotiate("application/json"), "Expected no media type when none is set.");
+
+        c.addMediaType("application/xml", xml).addMediaType("application/json", json).addMediaType("text/*", text);
+        checkNegotiated(c, null, "application/xml", xml);
+        checkNegotiated(c, "", "application/xml", xml);
+        checkNegotiated(c, "*/*", "application/xml", xml);
+        checkNegotiated(c, "application/json", "application/json", json);
+        checkNegotiated(c, "Application/JSON; charset=utf-8", "application/json", json);
+        checkNegotiated(c, "application/*", "application/xml", xml);
+        // Wildcards in the names of the media types
+        checkNegotiated(c, "text/plain", "text/*", text);
+        // Quality values
+        checkNegotiated(c, "application/xml;q=0.4, application/json;q=0.5", "application/json", json);
+        checkNegotiated(c, "*/*;q=0.1, text/html", "text/*", text);
+        // The most specific media range applies, so q=0 excludes a media type
+        checkNegotiated(c, "application/*;q=0.9, application/xml;q=0", "application/json", json);
+        // Invalid media ranges are ignored
+        checkNegotiated(c, "json, application/xml;q=abc, application/json", "application/json", json);
+        assertNull(c.negotiate("image/png"), "Expected no acceptable media type.");
+        assertNull(c.negotiate("application/json;q=0"), "Expected no acceptable media type.");
+
+        // A media type is preferred to a range of media types with the same quality value
+        c.addMediaType("*/*", any);
+        checkNegotiated(c, "image/png", "*/*", any);
+        checkNegotiated(c, "text/plain, image/png", "text/*", text);
+
+        // The result must reflect modifications of the media types
+        c.removeMediaType("application/xml");
+        checkNegotiated(c, "application/*", "application/json", json);
+        c.setMediaTypes(null);
+        assertNull(c.negotiate("*/*"), "Expected no media type when none is set.");
+    }
+
+    @Test
+    public void forEachOperationTest() {
+        final PathItem p = OASFactory.createPathItem();
+        final Map<PathItem.HttpMethod, Operation> visited = new LinkedHashMap<>();
+        p.forEachOperation(visited::put);
+        assertThat(visited, anEmptyMap());
+        assertEquals(p.operationCount(), 0);
+
+        final Operation get = OASFactory.createOperation();
+        final Operation post = OASFactory.createOperation();
+        final Operation trace = OASFactory.createOperation();
+        p.GET(get).POST(post).TRACE(trace);
+        p.forEachOperation(visited::put);
+        assertEquals(visited, p.getOperations());
+        assertEquals(new ArrayList<>(visited.keySet()),
+                Arrays.asList(PathItem.HttpMethod.POST, PathItem.HttpMethod.GET, PathItem.HttpMethod.TRACE),
+                "Expected the operations in the order of the HttpMethod constants.");
+        checkSameObject(get, visited.get(PathItem.HttpMethod.GET));
+        assertEquals(p.operationCount(), 3);
+
+        // Both must reflect modifications of the operations
+        p.setOperation(PathItem.HttpMethod.POST, null);
+        p.setDELETE(OASFactory.createOperation());
+        visited.clear();
+        p.forEachOperation(visited::put);
+        assertEquals(visited, p.getOperations());
+        assertEquals(p.operationCount(), 3);
+        p.setGET(null);
+        assertEquals(p.operationCount(), 2);
+    }
+
+    @Test
+    public void runtimeExpressionTest() {
+        final Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("callbackUrl", "https://example.com/hooks");
+        requestBody.put("a/b", Arrays.asList("zero", Collections.singletonMap("c~d", 42)));
+        final RuntimeExpression.Context context = new RuntimeExpression.Context() {
+            @Override
+            public String getUrl() {
+                return "https://api.example.com/bookings?id=7";
+            }
+
+            @Override
+            public String getMethod() {
+                return "POST";
+            }
+
+            @Override
+            public Integer getStatusCode() {
+                return 201;
+            }
+
+            @Override
+            public String getRequestHeader(String name) {
+                return "x-request-id".equalsIgnoreCase(name) ? "abc" : null;
+            }
+
+            @Override
+            public String getRequestQueryParameter(String name) {
+                return "id".equals(name) ? "7" : null;
+            }
+
+            @Override
+            public String getRequestPathParameter(String name) {
+                return "bookingId".equals(name) ? "B1" : null;
+            }
+
+            @Override
+            public Object getRequestBody() {
+                return requestBody;
+            }
+
+            @Override
+            public String getResponseHeader(String name) {
+                return "location".equalsIgnoreCase(name) ? "/bookings/B1" : null;
+            }
+
+            @Override
+            public Object getResponseBody() {
+                return Collections.singletonMap("status", "CONFIRMED");
+            }
+        };
+
+        assertEquals(RuntimeExpression.compile("$url").evaluate(context), "https://api.example.com/bookings?id=7");
+        assertEquals(RuntimeExpression.compile("$method").evaluate(context), "POST");
+        assertEquals(RuntimeExpression.compile("$statusCode").evaluate(context), 201);
+        assertEquals(RuntimeExpression.compile("$request.header.X-Request-ID").evaluate(context), "abc");
+        assertEquals(RuntimeExpression.compile("$request.query.id").evaluate(context), "7");
+        assertEquals(RuntimeExpression.compile("$request.path.bookingId").evaluate(context), "B1");
+        assertEquals(RuntimeExpression.compile("$request.body").evaluate(context), requestBody);
+        assertEquals(RuntimeExpression.compile("$request.body#/callbackUrl").evaluate(context),
+                "https://example.com/hooks");
+        assertEquals(RuntimeExpression.compile("$request.body#/a~1b/1/c~0d").evaluate(context), 42);
+        assertNull(RuntimeExpression.compile("$request.body#/a~1b/2").evaluate(context));
+        assertEquals(RuntimeExpression.compile("$response.header.Location").evaluate(context), "/bookings/B1");
+        assertEquals(RuntimeExpression.compile("$response.body#/status").evaluate(context), "CONFIRMED");
+
+        // Embedded expressions, as in the keys of callbacks
+        final String callbackKey = "{$request.body#/callbackUrl}/events?id={$request.query.id}";
+        final RuntimeExpression url = RuntimeExpression.compile(callbackKey);
+        assertFalse(url.isConstant());
+        assertEquals(url.evaluate(context), "https://example.com/hooks/events?id=7");
+        assertEquals(url.toString(), callbackKey);
+        checkSameObject(url, RuntimeExpression.compile(callbackKey));
+        assertNull(RuntimeExpression.compile("{$request.query.missing}/events").evaluate(context),
+                "Expected no value when a referenced value is not present.");
+        final RuntimeExpression constant = RuntimeExpression.compile("https://example.com/static");
+        assertTrue(constant.isConstant());
+        assertEquals(constant.evaluate(context), "https://example.com/static");
+
+        for (String invalid : new String[]{"$foo", "$request.cookie.id", "$request.header.", "$request.body#x",
+                "{$request.body#/callbackUrl"}) {
+            try {
+                RuntimeExpression.compile(invalid);
+                fail("Expected an IllegalArgumentException for " + invalid);
+            } catch (IllegalArgumentException e) {
+                // Expected
+            }
+        }
+    }
+
+    @Test
+    public void serverUrlTemplateTest() {
+        final Server server = OASFactory.createServer().url("https://{region}.api.example.com/{basePath}/v1")
+                .addVariable("region", OASFactory.createServerVariable().defaultValue("us")
+                        .enumeration(Arrays.asList("us", "eu")))
+                .addVariable("basePath", OASFactory.createServerVariable().defaultValue("airlines"));
+        final ServerUrlTemplate template = server.getUrlTemplate();
+        assertNotNull(template, "Expected a compiled url.");
+        assertEquals(template.getTemplate(), "https://{region}.api.example.com/{basePath}/v1");
+        assertEquals(template.getVariableNames(), Arrays.asList("region", "basePath"));
+        checkSameObject(template, ServerUrlTemplate.compile("https://{region}.api.example.com/{basePath}/v1"));
+
+        // Expansion
+        final Map<String, String> values = new HashMap<>();
+        values.put("region", "eu");
+        values.put("basePath", "b/c");
+        assertEquals(template.expand(values), "https://eu.api.example.com/b/c/v1");
+        assertEquals(template.expand(server, null), "https://us.api.example.com/airlines/v1");
+        assertEquals(template.expand(server, Collections.singletonMap("region", "eu")),
+                "https://eu.api.example.com/airlines/v1");
+        try {
+            template.expand(server, Collections.singletonMap("region", "ap"));
+            fail("Expected an IllegalArgumentException for a value which is not enumerated.");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        try {
+            template.expand(Collections.singletonMap("region", "eu"));
+            fail("Expected an IllegalArgumentException for a missing value.");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+
+        // Matching
+        assertEquals(template.match("https://eu.api.example.com/b/c/v1"), values);
+        assertNull(template.match("https://eu.api.example.org/b/v1"), "Expected no match for another host.");
+        assertEquals(ServerUrlTemplate.compile("https://example.com").match("https://example.com"),
+                Collections.emptyMap());
+        assertNull(ServerUrlTemplate.compile("{scheme}://{host}/{scheme}").match("http://host/https"),
+                "Expected a repeated variable to have the same value.");
+        // The value of a repeated variable is not limited to the shortest candidate for its first occurrence
+        assertEquals(ServerUrlTemplate.compile("https://{host}/{host}").match("https://a/b/a/b"),
+                Collections.singletonMap("host", "a/b"));
+
+        // Enumerated values are part of the match, rather than checked against the shortest values
+        final Map<String, ServerVariable> zones = new HashMap<>();
+        zones.put("region", OASFactory.createServerVariable().enumeration(Arrays.asList("eu", "eu-west")));
+        final ServerUrlTemplate zoned = ServerUrlTemplate.compile("https://{region}{zone}.example.com");
+        final Map<String, String> zone = new HashMap<>();
+        zone.put("region", "eu-west");
+        zone.put("zone", "1");
+        assertEquals(zoned.match("https://eu-west1.example.com", zones), zone);
+        assertEquals(zoned.match("https://eu-west1.example.com").get("region"), "");
+        assertNull(zoned.match("https://ap1.example.com", zones),
+                "Expected no match for a value which is not enumerated.");
+        final Server zonedServer = OASFactory.createServer().url("https://{region}{zone}.example.com")
+                .variables(zones);
+        checkSameObject(zonedServer,
+                ServerUrlTemplate.findServer(Arrays.asList(zonedServer), "https://eu-west1.example.com"));
+
+        final Server fallback = OASFactory.createServer().url("https://fallback.example.com");
+        final List<Server> servers = Arrays.asList(server, fallback);
+        checkSameObject(server, ServerUrlTemplate.findServer(servers, "https://eu.api.example.com/airlines/v1"));
+        checkSameObject(fallback, ServerUrlTemplate.findServer(servers, "https://fallback.example.com"));
+        assertNull(ServerUrlTemplate.findServer(servers, "https://ap.api.example.com/airlines/v1"),
+                "Expected no server for a value which is not enumerated.");
+
+        // The compiled url must reflect modifications of the url property
+        server.setUrl("https://{region}.example.com");
+        assertEquals(server.getUrlTemplate().getVariableNames(), Collections.singletonList("region"));
+        server.setUrl(null);
+        assertNull(server.getUrlTemplate(), "Expected no compiled url when the url property is not set.");
+    }
+
+    @Test
+    public void tagLookupTest() {
+        final Tag flights = OASFactory.createTag().name("flights");
+        final Tag bookings = OASFactory.createTag().name("bookings");
+        final OpenAPI api = OASFactory.createOpenAPI();
+        assertNull(api.getTag("flights"), "Expected no tag when none is set.");
+        assertThat(api.findOperationsByTag("flights"), empty());
+
+        api.addTag(flights).addTag(bookings);
+        checkSameObject(flights, api.getTag("flights"));
+        checkSameObject(bookings, api.getTag("bookings"));
+        assertNull(api.getTag("Flights"), "Tag names are case-sensitive.");
+
+        final Operation getFlights = OASFactory.createOperation().operationId("getFlights").addTag("flights");
+        final Operation getBookings = OASFactory.createOperation().operationId("getBookings").addTag("bookings")
+                .addTag("flights");
+        final Operation createBooking = OASFactory.createOperation().operationId("createBooking").addTag("bookings");
+        final Operation bookingEvent = OASFactory.createOperation().operationId("bookingEvent").addTag("bookings");
+        final Operation unused = OASFactory.createOperation().operationId("unused").addTag("flights");
+        api.paths(OASFactory.createPaths()
+                .addPathItem("/flights", OASFactory.createPathItem().GET(getFlights))
+                .addPathItem("/bookings", OASFactory.createPathItem().GET(getBookings).POST(createBooking)))
+                .addWebhook("bookingEvent", OASFactory.createPathItem().POST(bookingEvent))
+                .components(OASFactory.createComponents()
+                        .addPathItem("unused", OASFactory.createPathItem().GET(unused)));
+        assertThat(api.findOperationsByTag("flights"), containsInAnyOrder(getFlights, getBookings));
+        assertThat(api.findOperationsByTag("bookings"), containsInAnyOrder(getBookings, createBooking, bookingEvent));
+        assertThat(api.findOperationsByTag("airports"), empty());
+
+        // Both lookups must reflect modifications of the model
+        api.removeTag(flights);
+        assertNull(api.getTag("flights"), "Expected a removed tag not to be found.");
+        assertThat(api.findOperationsByTag("flights"), containsInAnyOrder(getFlights, getBookings));
+        getBookings.removeTag("flights");
+        assertThat(api.findOperationsByTag("flights"), contains(getFlights));
+        api.getPaths().removePathItem("/flights");
+        assertThat(api.findOperationsByTag("flights"), empty());
+        api.setTags(null);
+        assertNull(api.getTag("bookings"), "Expected no tag when none is set.");
+    }
+
+    @Test
+    public void extensionIterationTest() {
+        final Operation operation = OASFactory.createOperation();
+        final Map<String, Object> visited = new HashMap<>();
+        assertFalse(operation.hasExtensions(), "Expected no extensions on a new object.");
+        operation.forEachExtension(visited::put);
+        assertTrue(visited.isEmpty(), "Expected no extension to be visited on a new object.");
+
+        operation.addExtension("x-first", "one").addExtension("x-second", 2);
+        assertTrue(operation.hasExtensions(), "Expected extensions after adding them.");
+        operation.forEachExtension(visited::put);
+        assertEquals(visited, operation.getExtensions(), "Expected each extension to be visited once.");
+
+        operation.removeExtension("x-first");
+        operation.removeExtension("x-second");
+        assertFalse(operation.hasExtensions(), "Expected no extensions after removing them all.");
+        operation.setExtensions(new HashMap<>());
+        assertFalse(operation.hasExtensions(), "Expected no extensions when an empty map is set.");
+        operation.setExtensions(null);
+        assertFalse(operation.hasExtensions(), "Expected no extensions when the map is unset.");
+        visited.clear();
+        operation.forEachExtension(visited::put);
+        assertTrue(visited.isEmpty(), "Expected no extension to be visited when the map is unset.");
+    }
+
+    @Test
+    public void schemaTypeTest() {
+        final Schema schema = OASFactory.createSchema();
+        assertFalse(schema.hasType(Schema.SchemaType.STRING), "Expected no type on a new schema.");
+        assertEquals(schema.typeCount(), 0, "Expected no type on a new schema.");
+
+        schema.addType(Schema.SchemaType.STRING).addType(Schema.SchemaType.NULL);
+        assertTrue(schema.hasType(Schema.SchemaType.STRING), "Expected the string type to be found.");
+        assertTrue(schema.hasType(Schema.SchemaType.NULL), "Expected the null type to be found.");
+        assertFalse(schema.hasType(Schema.SchemaType.INTEGER), "Expected the integer type not to be found.");
+        assertEquals(schema.typeCount(), 2, "Expected the number of types to match.");
+
+        schema.removeType(Schema.SchemaType.NULL);
+        assertFalse(schema.hasType(Schema.SchemaType.NULL), "Expected a removed type not to be found.");
+        assertEquals(schema.typeCount(), 1, "Expected the number of types to match after a removal.");
+
+        schema.setType(Arrays.asList(Schema.SchemaType.OBJECT, Schema.SchemaType.ARRAY));
+        assertFalse(schema.hasType(Schema.SchemaType.STRING), "Expected a replaced type not to be found.");
+        assertTrue(schema.hasType(Schema.SchemaType.ARRAY), "Expected a type that was set to be found.");
+        assertEquals(schema.typeCount(), 2, "Expected the number of types to match after setting them.");
+
+        schema.setType(null);
+        assertFalse(schema.hasType(Schema.SchemaType.OBJECT), "Expected no type once the type is unset.");
+        assertEquals(schema.typeCount(), 0, "Expected no type once the type is unset.");
+    }
+
+    @Test
+    public void keyedLookupTest() {
+        final APIResponses responses = OASFactory.createAPIResponses();
+        final Callback callback = OASFactory.createCallback();
+        final Paths paths = OASFactory.createPaths();
+        final Content content = OASFactory.createContent();
+        final Operation operation = OASFactory.createOperation();
+        final SecurityRequirement requirement = OASFactory.createSecurityRequirement();
+        final List<APIResponse> responseList = new ArrayList<>();
+        final List<PathItem> pathItemList = new ArrayList<>();
+        final List<MediaType> mediaTypeList = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            responseList.add(OASFactory.createAPIResponse());
+            pathItemList.add(OASFactory.createPathItem());
+            mediaTypeList.add(OASFactory.createMediaType());
+            responses.addAPIResponse(Integer.toString(1000 + i), responseList.get(i));
+            callback.addPathItem("{$request.body#/url" + i + "}", pathItemList.get(i));
+            paths.addPathItem("/path" + i, pathItemList.get(i));
+            content.addMediaType("application/x-type" + i, mediaTypeList.get(i));
+            operation.addExtension("x-extension" + i, i);
+            requirement.addScheme("scheme" + i, "scope" + i);
+        }
+
+        // Keyed lookups must find the entry with the given key in large containers, and only that entry
+        for (int i = 0; i < 1000; i += 111) {
+            checkSameObject(responseList.get(i), responses.getAPIResponse(Integer.toString(1000 + i)));
+            assertTrue(responses.hasAPIResponse(Integer.toString(1000 + i)));
+            checkSameObject(pathItemList.get(i), callback.getPathItem("{$request.body#/url" + i + "}"));
+            assertTrue(callback.hasPathItem("{$request.body#/url" + i + "}"));
+            checkSameObject(pathItemList.get(i), paths.getPathItem("/path" + i));
+            assertTrue(paths.hasPathItem("/path" + i));
+            checkSameObject(mediaTypeList.get(i), content.getMediaType("application/x-type" + i));
+            assertTrue(content.hasMediaType("application/x-type" + i));
+            assertEquals(operation.getExtension("x-extension" + i), i);
+            assertTrue(operation.hasExtension("x-extension" + i));
+            assertEquals(requirement.getScheme("scheme" + i), Collections.singletonList("scope" + i));
+            assertTrue(requirement.hasScheme("scheme" + i));
+        }
+        assertNull(responses.getAPIResponse("2000"));
+        assertFalse(responses.hasAPIResponse("2000"));
+        assertNull(callback.getPathItem("{$request.body#/url1000}"));
+        assertFalse(callback.hasPathItem("{$request.body#/url1000}"));
+        assertNull(paths.getPathItem("/path1000"));
+        assertFalse(paths.hasPathItem("/path1000"));
+        assertNull(content.getMediaType("application/x-type1000"));
+        assertFalse(content.hasMediaType("application/x-type1000"));
+        assertNull(operation.getExtension("x-extension1000"));
+        assertFalse(operation.hasExtension("x-extension1000"));
+        assertNull(requirement.getScheme("scheme1000"));
+        assertFalse(requirement.hasScheme("scheme1000"));
+
+        // Keyed lookups must reflect modifications of the container
+        responses.removeAPIResponse("1500");
+        assertNull(responses.getAPIResponse("1500"));
+        assertFalse(responses.hasAPIResponse("1500"));
+        paths.removePathItem("/path500");
+        assertNull(paths.getPathItem("/path500"));
+        content.removeMediaType("application/x-type500");
+        assertFalse(content.hasMediaType("application/x-type500"));
+        operation.removeExtension("x-extension500");
+        assertFalse(operation.hasExtension("x-extension500"));
+        requirement.removeScheme("scheme500");
+        assertFalse(requirement.hasScheme("scheme500"));
+
+        // forEachExtension must visit each extension once, in the order of the map returned by getExtensions
+        assertTrue(operation.hasExtensions());
+        final List<String> names = new ArrayList<>();
+        operation.forEachExtension((name, value) -> {
+            assertEquals(value, operation.getExtension(name));
+            names.add(name);
+        });
+        assertEquals(names, new ArrayList<>(operation.getExtensions().keySet()));
+        assertEquals(names.size(), 999);
+    }
+
+    @Test
+    public void keyedLookupAllocationTest() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)
+                || !((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            throw new SkipException("Measuring the memory allocated by a thread is not supported by this JVM.");
+        }
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+
+        final APIResponses responses = OASFactory.createAPIResponses();
+        final Callback callback = OASFactory.createCallback();
+        final Paths paths = OASFactory.createPaths();
+        final Content content = OASFactory.createContent();
+        final Operation operation = OASFactory.createOperation();
+        final SecurityRequirement requirement = OASFactory.createSecurityRequirement();
+        final APIResponse response = OASFactory.createAPIResponse();
+        final PathItem pathItem = OASFactory.createPathItem();
+        final MediaType mediaType = OASFactory.createMediaType();
+        for (int i = 0; i < LOOKUP_CONTAINER_SIZE; i++) {
+            responses.addAPIResponse(Integer.toString(1000 + i), response);
+            callback.addPathItem("{$request.body#/url" + i + "}", pathItem);
+            paths.addPathItem("/path" + i, pathItem);
+            content.addMediaType("application/x-type" + i, mediaType);
+            operation.addExtension("x-extension" + i, i);
+            requirement.addScheme("scheme" + i, "scope");
+        }
+
+        checkNoCopy(threads, "APIResponses.hasAPIResponse", () -> responses.hasAPIResponse("1500"));
+        checkNoCopy(threads, "APIResponses.getAPIResponse", () -> responses.getAPIResponse("1500"));
+        checkNoCopy(threads, "Callback.hasPathItem", () -> callback.hasPathItem("{$request.body#/url500}"));
+        checkNoCopy(threads, "Callback.getPathItem", () -> callback.getPathItem("{$request.body#/url500}"));
+        checkNoCopy(threads, "Paths.hasPathItem", () -> paths.hasPathItem("/path500"));
+        checkNoCopy(threads, "Paths.getPathItem", () -> paths.getPathItem("/path500"));
+        checkNoCopy(threads, "Content.hasMediaType", () -> content.hasMediaType("application/x-type500"));
+        checkNoCopy(threads, "Content.getMediaType", () -> content.getMediaType("application/x-type500"));
+        checkNoCopy(threads, "Extensible.hasExtension", () -> operation.hasExtension("x-extension500"));
+        checkNoCopy(threads, "Extensible.getExtension", () -> operation.getExtension("x-extension500"));
+        checkNoCopy(threads, "Extensible.hasExtensions", () -> operation.hasExtensions());
+        final BiConsumer<String, Object> ignore = (name, value) -> {
+        };
+        checkNoCopy(threads, "Extensible.forEachExtension", () -> {
+            operation.forEachExtension(ignore);
+            return Boolean.TRUE;
+        });
+        checkNoCopy(threads, "SecurityRequirement.hasScheme", () -> requirement.hasScheme("scheme500"));
+        checkNoCopy(threads, "SecurityRequirement.getScheme", () -> requirement.getScheme("scheme500"));
+    }
+
+    private void checkNoCopy(com.sun.management.ThreadMXBean threads, String method, Supplier<Object> lookup) {
+        // Warm up, so that class loading and compilation are not measured
+        for (int i = 0; i < 1000; i++) {
+            final Object result = lookup.get();
+            assertTrue(result != null && !Boolean.FALSE.equals(result), "Expected " + method + " to find the key.");
+        }
+        final long threadId = Thread.currentThread().getId();
+        long allocated = Long.MAX_VALUE;
+        // Keep the smallest of several measurements, in case of unrelated allocations
+        for (int i = 0; i < 10; i++) {
+            final long start = threads.getThreadAllocatedBytes(threadId);
+            final long middle = threads.getThreadAllocatedBytes(threadId);
+            lookup.get();
+            final long end = threads.getThreadAllocatedBytes(threadId);
+            allocated = Math.min(allocated, (end - middle) - (middle - start));
+        }
+        assertTrue(allocated < LOOKUP_ALLOCATION_LIMIT, "Expected " + method + " on a container of "
+                + LOOKUP_CONTAINER_SIZE + " entries not to copy the container, but it allocated " + allocated
+                + " bytes.");
+    }
+
+
+    @Test
+    public void resolveStatusCodeTest() {
+        final APIResponse ok = OASFactory.createAPIResponse();
+        final APIResponse notFound = OASFactory.createAPIResponse();
+        final APIResponse clientError = OASFactory.createAPIResponse();
+        final APIResponse other = OASFactory.createAPIResponse();
+        final APIResponses responses = OASFactory.createAPIResponses();
+        assertNull(responses.resolve(200), "Expected no response when none is set.");
+
+        responses.addAPIResponse("200", ok).addAPIResponse("404", notFound).addAPIResponse("4XX", clientError);
+        checkSameObject(ok, responses.resolve(200));
+        checkSameObject(notFound, responses.resolve(404));
+        checkSameObject(clientError, responses.resolve(400));
+        checkSameObject(clientError, responses.resolve(499));
+        assertNull(responses.resolve(201), "Expected no response for an undeclared status code.");
+        assertNull(responses.resolve(500), "Expected no response for an undeclared status code.");
+
+        responses.setDefaultValue(other);
+        checkSameObject(other, responses.resolve(201));
+        checkSameObject(other, responses.resolve(500));
+        checkSameObject(other, responses.resolve(999));
+        checkSameObject(notFound, responses.resolve(404));
+
+        // The lookup must reflect modifications of the responses
+        responses.removeAPIResponse("404");
+        checkSameObject(clientError, responses.resolve(404));
+        responses.removeAPIResponse("4XX");
+        checkSameObject(other, responses.resolve(404));
+        responses.addAPIResponse("5XX", notFound);
+        checkSameObject(notFound, responses.resolve(503));
+        responses.setAPIResponses(null);
+        assertNull(responses.resolve(200), "Expected no response when none is set.");
+    }
+
+    private void checkNegotiated(Content content, String accept, String expectedName, MediaType expected) {
+        final Map.Entry<String, MediaType> selected = content.negotiate(accept);
+        assertNotNull(selected, "Expected a media type to be selected for " + accept);
+        assertEquals(selected.getKey(), expectedName, "Unexpected media type selected for " + accept);
+        checkSameObject(expected, selected.getValue());
+    }
+
     private <T extends Constructible> T processConstructible(Class<T> clazz) {
         return processConstructible(clazz, Collections.emptySet());
     }
@@ -1766,6 +2853,8 @@ public class ModelConstructionTest extends Arquillian {
                 "The return value of OASFactory.createObject() is expected to be an instance of: " + clazz.getName());
         assertNotSame(o2, o1, "OASFactory.createObject(" + clazz.getName()
                 + ") is expected to create a new object on each invocation.");
+        assertTrue(o1.isMaterialized(), "The return value of OASFactory.createObject(" + clazz.getName()
+                + ") is expected to be materialized.");
         return o1;
     }
 
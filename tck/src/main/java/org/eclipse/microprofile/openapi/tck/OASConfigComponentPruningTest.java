@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+public class OASConfigComponentPruningTest extends AppTestBase {
+
+    @Deployment(name = "componentPruning", testable = false)
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "componentPruning.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.reader")
+                .addClass(org.eclipse.microprofile.openapi.filter.ComponentPruningOASFilter.class)
+                .addAsManifestResource("microprofile-reader-component-pruning.properties",
+                        "microprofile-config.properties");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testUsedComponentsKept(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+
+        vr.body("paths", not(hasKey("/bookings")));
+        // Referenced directly from an operation
+        vr.body("components.schemas", hasKey("Flight"));
+        vr.body("components.schemas", hasKey("Aircraft"));
+        vr.body("components.responses", hasKey("NotFound"));
+        vr.body("components.securitySchemes", hasKey("flightKey"));
+        // Referenced only from other used components
+        vr.body("components.schemas", hasKey("Airport"));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testDiscriminatorMappingKept(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+
+        // Mapped by schema name
+        vr.body("components.schemas", hasKey("Jet"));
+        // Mapped by reference
+        vr.body("components.schemas", hasKey("Propeller"));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testUnusedComponentsRemoved(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+
+        // Only used by the operation removed by the filter
+        vr.body("components.schemas", not(hasKey("Booking")));
+        vr.body("components.schemas", not(hasKey("Passenger")));
+        vr.body("components.securitySchemes", not(hasKey("bookingKey")));
+        vr.body("components.responses", not(hasKey("Conflict")));
+        // Never used
+        vr.body("components.schemas", not(hasKey("Orphan")));
+        vr.body("components.securitySchemes", not(hasKey("unusedKey")));
+    }
+}
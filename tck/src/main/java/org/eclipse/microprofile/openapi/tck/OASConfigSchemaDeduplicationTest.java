@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.eclipse.microprofile.openapi.tck.utils.TCKMatchers.itemOrSingleton;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.collection.IsMapWithSize.aMapWithSize;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+public class OASConfigSchemaDeduplicationTest extends AppTestBase {
+
+    @Deployment(name = "schemaDeduplication", testable = false)
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "schemaDeduplication.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.reader")
+                .addAsManifestResource("microprofile-reader-schema-deduplication.properties",
+                        "microprofile-config.properties");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testRepeatedSchemasReplaced(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+
+        for (String path : new String[]{"/flights", "/airports", "/airlines"}) {
+            vr.body(responseSchema(path, "200") + ".$ref", equalTo("#/components/schemas/Envelope"));
+        }
+
+        vr.body("components.schemas", aMapWithSize(2));
+        vr.body("components.schemas.Envelope.title", equalTo("Envelope"));
+        vr.body("components.schemas.Envelope.properties.status.type", itemOrSingleton("integer"));
+        vr.body("components.schemas.Envelope.properties.data.items.type", itemOrSingleton("string"));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testExistingComponentReused(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+
+        for (String path : new String[]{"/flights", "/airports", "/airlines", "/weather"}) {
+            vr.body(responseSchema(path, "404") + ".$ref", equalTo("#/components/schemas/Error"));
+        }
+        vr.body("components.schemas.Error.properties.code.type", itemOrSingleton("integer"));
+        vr.body("components.schemas.Error", not(hasKey("$ref")));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testUniqueSchemaNotReplaced(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+
+        vr.body(responseSchema("/weather", "200"), not(hasKey("$ref")));
+        vr.body(responseSchema("/weather", "200") + ".properties.temperature", notNullValue());
+    }
+
+    private static String responseSchema(String path, String status) {
+        return "paths.'" + path + "'.get.responses.'" + status + "'.content.'application/json'.schema";
+    }
+}
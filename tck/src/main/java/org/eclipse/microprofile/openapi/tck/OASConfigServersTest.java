@@ -16,6 +16,7 @@ package org.eclipse.microprofile.openapi.tck;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
 
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
@@ -55,5 +56,10 @@ public class OASConfigServersTest extends AppTestBase {
         vr.body("paths.'/reviews'.post.servers.findAll { it }.url",
                 containsInAnyOrder("https://newreviewserver.io/v1", "https://newreviewserver.io/v2"));
 
+        // Operations of webhooks are found by operationId as well
+        vr.body("webhooks.bookingEvent.put.servers.findAll { it }.url", hasSize(1));
+        vr.body("webhooks.bookingEvent.put.servers.findAll { it }.url", contains("https://events.xyz.io/v1"));
+        vr.body("webhooks.bookingEvent.delete.servers", nullValue());
+
     }
 }
@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.validation;
+
+import java.util.List;
+
+/**
+ * A compiled schema keyword, or a compiled schema made of several keywords.
+ * <p>
+ * Values are represented as they are by common JSON parsers: {@link java.util.Map Map} for objects,
+ * {@link java.util.List List} for arrays, {@link String}, {@link Number}, {@link Boolean} and {@code null}.
+ */
+abstract class Constraint {
+
+    /**
+     * Checks a value against this constraint.
+     *
+     * @param value
+     *            the value to check
+     * @param pointer
+     *            the location of the value, {@code null} if errors are not collected
+     * @param errors
+     *            receives a description of each violation, {@code null} if the caller is only interested in the result
+     * @return {@code true} if the value is valid
+     */
+    abstract boolean check(Object value, Pointer pointer, List<ValidationError> errors);
+
+    /**
+     * Reports a violation of this constraint.
+     *
+     * @param pointer
+     *            the location of the invalid value
+     * @param errors
+     *            receives the error, may be {@code null}
+     * @param message
+     *            a description of the violation
+     * @return {@code false}
+     */
+    static boolean fail(Pointer pointer, List<ValidationError> errors, String message) {
+        if (errors != null) {
+            errors.add(new ValidationError(String.valueOf(pointer), message));
+        }
+        return false;
+    }
+}
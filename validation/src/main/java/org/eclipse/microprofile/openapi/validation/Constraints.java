@@ -0,0 +1,618 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.validation;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.eclipse.microprofile.openapi.models.media.NumericValue;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+
+/**
+ * The compiled forms of the schema keywords. Each keyword only applies to values of the types it constrains, e.g.
+ * {@code minLength} accepts any value which is not a string.
+ */
+final class Constraints {
+
+    private Constraints() {
+    }
+
+    private static String bounds(String subject, int min, int max) {
+        if (max == Integer.MAX_VALUE) {
+            return subject + " must be at least " + min;
+        }
+        return min == 0 ? subject + " must be at most " + max
+                : subject + " must be between " + min + " and " + max;
+    }
+
+    /**
+     * A schema compiled into the constraints of its keywords, all of which must be satisfied.
+     */
+    static final class AllOf extends Constraint {
+        private final Constraint[] constraints;
+
+        AllOf(List<Constraint> constraints) {
+            this.constraints = constraints.toArray(new Constraint[0]);
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            boolean valid = true;
+            for (Constraint constraint : constraints) {
+                if (!constraint.check(value, pointer, errors)) {
+                    if (errors == null) {
+                        return false;
+                    }
+                    valid = false;
+                }
+            }
+            return valid;
+        }
+    }
+
+    /**
+     * The {@code false} schema, which no value satisfies.
+     */
+    static final class Never extends Constraint {
+        private final String message;
+
+        Never(String message) {
+            this.message = message;
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            return fail(pointer, errors, message);
+        }
+    }
+
+    /**
+     * A reference to another schema. The target is set once it has been compiled, which allows recursive schemas.
+     */
+    static final class Ref extends Constraint {
+        private Constraint target;
+
+        void setTarget(Constraint target) {
+            this.target = target;
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            return target.check(value, pointer, errors);
+        }
+    }
+
+    static final class Type extends Constraint {
+        private final Set<SchemaType> types;
+        private final String message;
+
+        Type(List<SchemaType> types) {
+            this.types = EnumSet.copyOf(types);
+            this.message = "must be of type " + String.join(" or ", names(types));
+        }
+
+        private static List<String> names(List<SchemaType> types) {
+            List<String> names = new ArrayList<>(types.size());
+            for (SchemaType type : types) {
+                names.add(type.toString());
+            }
+            return names;
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            for (SchemaType type : types) {
+                if (JsonValues.isInstance(value, type)) {
+                    return true;
+                }
+            }
+            return fail(pointer, errors, message);
+        }
+    }
+
+    static final class Enumeration extends Constraint {
+        private final List<Object> values;
+        private final Set<Object> normalized = new HashSet<>();
+
+        Enumeration(List<Object> values) {
+            this.values = new ArrayList<>(values);
+            for (Object allowed : values) {
+                normalized.add(Schema.normalizeValue(allowed));
+            }
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            return normalized.contains(Schema.normalizeValue(value))
+                    || fail(pointer, errors, "must be one of " + values);
+        }
+    }
+
+    static final class Const extends Constraint {
+        private final Object constValue;
+        private final Object normalized;
+
+        Const(Object constValue) {
+            this.constValue = constValue;
+            this.normalized = Schema.normalizeValue(constValue);
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            return normalized.equals(Schema.normalizeValue(value))
+                    || fail(pointer, errors, "must be equal to " + constValue);
+        }
+    }
+
+    /**
+     * The {@code minimum}, {@code exclusiveMinimum}, {@code maximum} and {@code exclusiveMaximum} keywords.
+     */
+    static final class Range extends Constraint {
+        private final NumericValue limit;
+        private final boolean upper;
+        private final boolean exclusive;
+
+        Range(NumericValue limit, boolean upper, boolean exclusive) {
+            this.limit = limit;
+            this.upper = upper;
+            this.exclusive = exclusive;
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            if (!(value instanceof Number)) {
+                return true;
+            }
+            if (!isFinite((Number) value)) {
+                return fail(pointer, errors, "must be a finite number");
+            }
+            int c = limit.compareTo((Number) value);
+            if (upper ? (exclusive ? c > 0 : c >= 0) : (exclusive ? c < 0 : c <= 0)) {
+                return true;
+            }
+            return fail(pointer, errors, "must be " + (upper ? "less than " : "greater than ")
+                    + (exclusive ? "" : "or equal to ") + limit);
+        }
+    }
+
+    static final class MultipleOf extends Constraint {
+        private final NumericValue divisor;
+
+        MultipleOf(NumericValue divisor) {
+            this.divisor = divisor;
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            if (!(value instanceof Number)) {
+                return true;
+            }
+            if (divisor.divides((Number) value)) {
+                return true;
+            }
+            return fail(pointer, errors, "must be a multiple of " + divisor);
+        }
+    }
+
+    private static boolean isFinite(Number number) {
+        if (number instanceof Double || number instanceof Float) {
+            double d = number.doubleValue();
+            return !Double.isNaN(d) && !Double.isInfinite(d);
+        }
+        return true;
+    }
+
+    /**
+     * The {@code minLength} and {@code maxLength} keywords. The length of a string is its number of code points.
+     */
+    static final class Length extends Constraint {
+        private final int min;
+        private final int max;
+
+        Length(int min, int max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            if (!(value instanceof CharSequence)) {
+                return true;
+            }
+            CharSequence s = (CharSequence) value;
+            // The number of code points is at most the number of chars, and at least half of it
+            if (s.length() >= min && s.length() / 2 <= max) {
+                int length = Character.codePointCount(s, 0, s.length());
+                if (length >= min && length <= max) {
+                    return true;
+                }
+            }
+            return fail(pointer, errors, bounds("length", min, max));
+        }
+    }
+
+    /**
+     * The {@code pattern} keyword, compiled with {@code Schema.compilePattern}. As in ECMA-262, the pattern is not
+     * implicitly anchored.
+     */
+    static final class PatternMatch extends Constraint {
+        private final Pattern pattern;
+
+        PatternMatch(Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            if (!(value instanceof CharSequence) || pattern.matcher((CharSequence) value).find()) {
+                return true;
+            }
+            return fail(pointer, errors, "must match the pattern " + pattern.pattern());
+        }
+    }
+
+    /**
+     * The {@code minItems} and {@code maxItems} keywords.
+     */
+    static final class ItemCount extends Constraint {
+        private final int min;
+        private final int max;
+
+        ItemCount(int min, int max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            if (!(value instanceof List)) {
+                return true;
+            }
+            int size = ((List<?>) value).size();
+            return size >= min && size <= max
+                    || fail(pointer, errors, bounds("number of items", min, max));
+        }
+    }
+
+    static final class UniqueItems extends Constraint {
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            if (!(value instanceof List)) {
+                return true;
+            }
+            Set<Object> seen = new HashSet<>();
+            for (Object item : (List<?>) value) {
+                if (!seen.add(Schema.normalizeValue(item))) {
+                    return fail(pointer, errors, "items must be unique");
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The {@code prefixItems} and {@code items} keywords. The items schema applies to the items which follow the
+     * prefix items.
+     */
+    static final class Items extends Constraint {
+        private final Constraint[] prefixItems;
+        private final Constraint items;
+
+        Items(List<Constraint> prefixItems, Constraint items) {
+            this.prefixItems = prefixItems.toArray(new Constraint[0]);
+            this.items = items;
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            if (!(value instanceof List)) {
+                return true;
+            }
+            List<?> list = (List<?>) value;
+            boolean valid = true;
+            int i = 0;
+            for (Object item : list) {
+                Constraint constraint = i < prefixItems.length ? prefixItems[i] : items;
+                if (constraint != null && !constraint.check(item, errors == null ? null : pointer.child(i), errors)) {
+                    if (errors == null) {
+                        return false;
+                    }
+                    valid = false;
+                }
+                i++;
+            }
+            return valid;
+        }
+    }
+
+    /**
+     * The {@code contains}, {@code minContains} and {@code maxContains} keywords.
+     */
+    static final class Contains extends Constraint {
+        private final Constraint contains;
+        private final int min;
+        private final int max;
+
+        Contains(Constraint contains, int min, int max) {
+            this.contains = contains;
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            if (!(value instanceof List)) {
+                return true;
+            }
+            int count = 0;
+            for (Object item : (List<?>) value) {
+                if (contains.check(item, null, null)) {
+                    count++;
+                }
+            }
+            return count >= min && count <= max || fail(pointer, errors,
+                    bounds("number of items matching the contains schema", min, max));
+        }
+    }
+
+    /**
+     * The {@code minProperties} and {@code maxProperties} keywords.
+     */
+    static final class PropertyCount extends Constraint {
+        private final int min;
+        private final int max;
+
+        PropertyCount(int min, int max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            if (!(value instanceof Map)) {
+                return true;
+            }
+            int size = ((Map<?, ?>) value).size();
+            return size >= min && size <= max
+                    || fail(pointer, errors, bounds("number of properties", min, max));
+        }
+    }
+
+    static final class Required extends Constraint {
+        private final String[] names;
+
+        Required(List<String> names) {
+            this.names = names.toArray(new String[0]);
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            if (!(value instanceof Map)) {
+                return true;
+            }
+            Map<?, ?> map = (Map<?, ?>) value;
+            boolean valid = true;
+            for (String name : names) {
+                if (!map.containsKey(name)) {
+                    if (errors == null) {
+                        return false;
+                    }
+                    valid = fail(pointer.child(name), errors, "is required");
+                }
+            }
+            return valid;
+        }
+    }
+
+    /**
+     * The {@code properties}, {@code patternProperties} and {@code additionalProperties} keywords, which are compiled
+     * together since additional properties are those matched by neither of the others.
+     */
+    static final class Properties extends Constraint {
+        private final Map<String, Constraint> properties;
+        private final Pattern[] patterns;
+        private final Constraint[] patternProperties;
+        private final Constraint additionalProperties;
+
+        Properties(Map<String, Constraint> properties, Map<Pattern, Constraint> patternProperties,
+                Constraint additionalProperties) {
+            this.properties = properties;
+            this.patterns = patternProperties.keySet().toArray(new Pattern[0]);
+            this.patternProperties = patternProperties.values().toArray(new Constraint[0]);
+            this.additionalProperties = additionalProperties;
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            if (!(value instanceof Map)) {
+                return true;
+            }
+            boolean valid = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                String name = String.valueOf(entry.getKey());
+                Pointer child = errors == null ? null : pointer.child(name);
+                boolean matched = false;
+                Constraint property = properties.get(name);
+                if (property != null) {
+                    matched = true;
+                    valid &= property.check(entry.getValue(), child, errors);
+                }
+                for (int i = 0; i < patterns.length; i++) {
+                    if (patterns[i].matcher(name).find()) {
+                        matched = true;
+                        valid &= patternProperties[i].check(entry.getValue(), child, errors);
+                    }
+                }
+                if (!matched && additionalProperties != null) {
+                    valid &= additionalProperties.check(entry.getValue(), child, errors);
+                }
+                if (!valid && errors == null) {
+                    return false;
+                }
+            }
+            return valid;
+        }
+    }
+
+    static final class PropertyNames extends Constraint {
+        private final Constraint names;
+
+        PropertyNames(Constraint names) {
+            this.names = names;
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            if (!(value instanceof Map)) {
+                return true;
+            }
+            boolean valid = true;
+            for (Object key : ((Map<?, ?>) value).keySet()) {
+                String name = String.valueOf(key);
+                if (!names.check(name, errors == null ? null : pointer.child(name), errors)) {
+                    if (errors == null) {
+                        return false;
+                    }
+                    valid = false;
+                }
+            }
+            return valid;
+        }
+    }
+
+    /**
+     * The {@code dependentRequired} and {@code dependentSchemas} keywords.
+     */
+    static final class Dependent extends Constraint {
+        private final String property;
+        private final Constraint constraint;
+
+        Dependent(String property, Constraint constraint) {
+            this.property = property;
+            this.constraint = constraint;
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            if (!(value instanceof Map) || !((Map<?, ?>) value).containsKey(property)) {
+                return true;
+            }
+            return constraint.check(value, pointer, errors);
+        }
+    }
+
+    static final class AnyOf extends Constraint {
+        private final Constraint[] alternatives;
+
+        AnyOf(List<Constraint> alternatives) {
+            this.alternatives = alternatives.toArray(new Constraint[0]);
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            for (Constraint alternative : alternatives) {
+                if (alternative.check(value, null, null)) {
+                    return true;
+                }
+            }
+            return fail(pointer, errors, "must match at least one of the anyOf schemas");
+        }
+    }
+
+    static final class OneOf extends Constraint {
+        private final Constraint[] alternatives;
+
+        OneOf(List<Constraint> alternatives) {
+            this.alternatives = alternatives.toArray(new Constraint[0]);
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            int matches = 0;
+            for (Constraint alternative : alternatives) {
+                if (alternative.check(value, null, null) && ++matches > 1) {
+                    break;
+                }
+            }
+            return matches == 1 || fail(pointer, errors, "must match exactly one of the oneOf schemas");
+        }
+    }
+
+    /**
+     * The {@code oneOf} or {@code anyOf} keyword of a schema with a discriminator. An object whose discriminator
+     * property selects an alternative is only checked against that alternative. Other values are checked against
+     * every alternative.
+     */
+    static final class Discriminated extends Constraint {
+        private final String propertyName;
+        private final Map<String, Constraint> alternatives;
+        private final Constraint all;
+
+        Discriminated(String propertyName, Map<String, Constraint> alternatives, Constraint all) {
+            this.propertyName = propertyName;
+            this.alternatives = alternatives;
+            this.all = all;
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            Object discriminator = value instanceof Map ? ((Map<?, ?>) value).get(propertyName) : null;
+            Constraint alternative = discriminator instanceof String ? alternatives.get(discriminator) : null;
+            return alternative == null ? all.check(value, pointer, errors) : alternative.check(value, pointer, errors);
+        }
+    }
+
+    static final class Not extends Constraint {
+        private final Constraint not;
+
+        Not(Constraint not) {
+            this.not = not;
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            return !not.check(value, null, null) || fail(pointer, errors, "must not match the not schema");
+        }
+    }
+
+    /**
+     * The {@code if}, {@code then} and {@code else} keywords.
+     */
+    static final class Conditional extends Constraint {
+        private final Constraint ifSchema;
+        private final Constraint thenSchema;
+        private final Constraint elseSchema;
+
+        Conditional(Constraint ifSchema, Constraint thenSchema, Constraint elseSchema) {
+            this.ifSchema = ifSchema;
+            this.thenSchema = thenSchema;
+            this.elseSchema = elseSchema;
+        }
+
+        @Override
+        boolean check(Object value, Pointer pointer, List<ValidationError> errors) {
+            Constraint branch = ifSchema.check(value, null, null) ? thenSchema : elseSchema;
+            return branch == null || branch.check(value, pointer, errors);
+        }
+    }
+}
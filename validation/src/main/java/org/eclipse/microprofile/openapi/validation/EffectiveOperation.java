@@ -0,0 +1,254 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.microprofile.openapi.models.Constructible;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Reference;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+
+/**
+ * The servers, parameters and security requirements which apply to an operation, after merging the definitions of the
+ * document, the path item and the operation.
+ * <ul>
+ * <li>The servers of the operation replace those of the path item, which replace those of the document, as described
+ * in the <em>Context root behavior</em> section of the specification. An empty list of servers does not replace the
+ * servers of the enclosing element.</li>
+ * <li>The parameters of the path item apply to the operation unless the operation defines a parameter with the same
+ * name and location. Parameters defined by reference to the components of the document are resolved.</li>
+ * <li>The security requirements of the operation, including an empty list, replace those of the document.</li>
+ * </ul>
+ * <p>
+ * An effective operation is computed once and is not updated when the model is modified afterwards. Instances are
+ * immutable and may be shared between threads.
+ */
+public final class EffectiveOperation {
+
+    private final Operation operation;
+    private final PathItem pathItem;
+    private final List<Server> servers;
+    private final List<Parameter> parameters;
+    private final List<SecurityRequirement> security;
+
+    private EffectiveOperation(OpenAPI openAPI, PathItem pathItem, Operation operation) {
+        this.operation = operation;
+        this.pathItem = pathItem;
+        List<Server> mergedServers = operation.getServers();
+        if (isEmpty(mergedServers) && pathItem != null) {
+            mergedServers = pathItem.getServers();
+        }
+        if (isEmpty(mergedServers) && openAPI != null) {
+            mergedServers = openAPI.getServers();
+        }
+        this.servers = copy(mergedServers);
+        Map<String, Parameter> mergedParameters = new LinkedHashMap<>();
+        if (pathItem != null) {
+            addParameters(mergedParameters, pathItem.getParameters(), openAPI);
+        }
+        addParameters(mergedParameters, operation.getParameters(), openAPI);
+        this.parameters = copy(new ArrayList<>(mergedParameters.values()));
+        List<SecurityRequirement> mergedSecurity = operation.getSecurity();
+        if (mergedSecurity == null && openAPI != null) {
+            mergedSecurity = openAPI.getSecurity();
+        }
+        this.security = copy(mergedSecurity);
+    }
+
+    /**
+     * Computes the effective servers, parameters and security requirements of an operation.
+     *
+     * @param openAPI
+     *            the model which contains the operation, may be {@code null}
+     * @param pathItem
+     *            the path item which contains the operation, may be {@code null}
+     * @param operation
+     *            the operation
+     * @return the effective operation
+     * @throws NullPointerException
+     *             if the operation is {@code null}
+     */
+    public static EffectiveOperation of(OpenAPI openAPI, PathItem pathItem, Operation operation) {
+        return new EffectiveOperation(openAPI, pathItem, operation);
+    }
+
+    /**
+     * Returns the operation.
+     *
+     * @return the operation
+     */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Returns the path item which contains the operation.
+     *
+     * @return the path item, or {@code null} if none was given
+     */
+    public PathItem getPathItem() {
+        return pathItem;
+    }
+
+    /**
+     * Returns the servers which apply to the operation.
+     *
+     * @return an unmodifiable list of servers. An empty list means that the operation is served relative to the URL of
+     *         the document, as if by a single server with the URL {@code /}.
+     */
+    public List<Server> getServers() {
+        return servers;
+    }
+
+    /**
+     * Returns the parameters which apply to the operation, with the parameters of the path item first.
+     *
+     * @return an unmodifiable list of resolved parameters. Parameters which are missing their name or location, or
+     *         whose reference cannot be resolved, are omitted.
+     */
+    public List<Parameter> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Returns the security requirements which apply to the operation.
+     *
+     * @return an unmodifiable list of security requirements. An empty list means that the operation does not require
+     *         any security.
+     */
+    public List<SecurityRequirement> getSecurity() {
+        return security;
+    }
+
+    private static boolean isEmpty(List<?> list) {
+        return list == null || list.isEmpty();
+    }
+
+    private static <T> List<T> copy(List<T> list) {
+        return isEmpty(list) ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    private static void addParameters(Map<String, Parameter> merged, List<Parameter> parameters, OpenAPI openAPI) {
+        if (parameters == null) {
+            return;
+        }
+        for (Parameter parameter : parameters) {
+            Parameter resolved = resolve(parameter, Parameter.class, openAPI);
+            if (resolved != null && resolved.getName() != null && resolved.getIn() != null) {
+                merged.put(resolved.getIn() + "/" + resolved.getName(), resolved);
+            }
+        }
+    }
+
+    // Follows references to components of the document, up to a fixed depth in case of a reference cycle
+    static <T extends Constructible> T resolve(T object, Class<T> type, OpenAPI openAPI) {
+        for (int i = 0; i < 10 && object instanceof Reference; i++) {
+            String ref = ((Reference<?>) object).getRef();
+            if (ref == null || openAPI == null) {
+                return object;
+            }
+            Constructible target = openAPI.resolve(ref);
+            object = type.isInstance(target) ? type.cast(target) : null;
+        }
+        return object;
+    }
+
+    /**
+     * A cache of the effective operations of an OpenAPI model, so that they are computed once per operation rather
+     * than once per request.
+     * <p>
+     * Operations are identified by identity, not by equality, and the cache holds the operations it has seen for as
+     * long as it is reachable. Applications which modify the model after effective operations have been computed must
+     * {@linkplain #clear() clear} the cache. Instances of this class are thread-safe, and looking up an operation which
+     * is already in the cache does not block.
+     */
+    public static final class Cache {
+
+        private final OpenAPI openAPI;
+        private final Map<Key, EffectiveOperation> operations = new ConcurrentHashMap<>();
+
+        /**
+         * Creates an empty cache of the effective operations of a model.
+         *
+         * @param openAPI
+         *            the model which contains the operations, may be {@code null}
+         */
+        public Cache(OpenAPI openAPI) {
+            this.openAPI = openAPI;
+        }
+
+        /**
+         * Returns the effective operation of an operation of the model, computing it if it is not in the cache.
+         *
+         * @param pathItem
+         *            the path item which contains the operation, may be {@code null}
+         * @param operation
+         *            the operation
+         * @return the effective operation
+         * @throws NullPointerException
+         *             if the operation is {@code null}
+         */
+        public EffectiveOperation get(PathItem pathItem, Operation operation) {
+            Objects.requireNonNull(operation, "operation");
+            return operations.computeIfAbsent(new Key(pathItem, operation),
+                    key -> new EffectiveOperation(openAPI, pathItem, operation));
+        }
+
+        /**
+         * Removes all effective operations from the cache.
+         */
+        public void clear() {
+            operations.clear();
+        }
+
+        // Identifies an operation, and the path item which contains it, by identity rather than by equality
+        private static final class Key {
+            private final PathItem pathItem;
+            private final Operation operation;
+
+            Key(PathItem pathItem, Operation operation) {
+                this.pathItem = pathItem;
+                this.operation = operation;
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (!(obj instanceof Key)) {
+                    return false;
+                }
+                Key other = (Key) obj;
+                return pathItem == other.pathItem && operation == other.operation;
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * System.identityHashCode(pathItem) + System.identityHashCode(operation);
+            }
+        }
+    }
+}
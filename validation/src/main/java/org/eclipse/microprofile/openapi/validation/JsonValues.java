@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.validation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+
+/**
+ * Type checks of values, following the JSON Schema data model. Values are compared with
+ * {@link org.eclipse.microprofile.openapi.models.media.Schema#normalizeValue(Object) Schema.normalizeValue}.
+ */
+final class JsonValues {
+
+    private JsonValues() {
+    }
+
+    /**
+     * Checks whether a value is an instance of the given JSON Schema type. A number with a zero fractional part is an
+     * integer.
+     *
+     * @param value
+     *            the value
+     * @param type
+     *            the type
+     * @return {@code true} if the value is an instance of the type
+     */
+    static boolean isInstance(Object value, SchemaType type) {
+        switch (type) {
+            case NULL :
+                return value == null;
+            case BOOLEAN :
+                return value instanceof Boolean;
+            case STRING :
+                return value instanceof CharSequence;
+            case NUMBER :
+                return value instanceof Number;
+            case INTEGER :
+                return isInteger(value);
+            case ARRAY :
+                return value instanceof List;
+            case OBJECT :
+                return value instanceof Map;
+            default :
+                return false;
+        }
+    }
+
+    private static boolean isInteger(Object value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof BigInteger) {
+            return true;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            return !Double.isInfinite(d) && d == Math.rint(d);
+        }
+        if (value instanceof Number) {
+            BigDecimal d = toBigDecimal((Number) value);
+            return d != null && d.stripTrailingZeros().scale() <= 0;
+        }
+        return false;
+    }
+
+    // Returns the exact value of a number, or null if it is not finite
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        if (number instanceof Integer || number instanceof Long || number instanceof Short
+                || number instanceof Byte) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        double d = number.doubleValue();
+        if (Double.isNaN(d) || Double.isInfinite(d)) {
+            return null;
+        }
+        return new BigDecimal(Double.toString(d));
+    }
+}
@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+
+/**
+ * The compiled parameters and request body of an operation.
+ * <p>
+ * The parameters which apply to the operation are those of its {@link EffectiveOperation}. Parameters and request
+ * bodies defined by reference to the components of the document are resolved when the operation is compiled.
+ */
+public final class OperationValidator {
+
+    private final EffectiveOperation effectiveOperation;
+    private final List<ParameterValidator> parameters = new ArrayList<>();
+    private final boolean bodyRequired;
+    private final Map<String, Constraint> bodies = new LinkedHashMap<>();
+
+    OperationValidator(EffectiveOperation effectiveOperation, OpenAPI openAPI, SchemaCompiler compiler) {
+        this.effectiveOperation = effectiveOperation;
+        for (Parameter parameter : effectiveOperation.getParameters()) {
+            parameters.add(new ParameterValidator(parameter, openAPI, compiler));
+        }
+        RequestBody requestBody = EffectiveOperation.resolve(effectiveOperation.getOperation().getRequestBody(),
+                RequestBody.class, openAPI);
+        this.bodyRequired = requestBody != null && Boolean.TRUE.equals(requestBody.getRequired());
+        Content content = requestBody == null ? null : requestBody.getContent();
+        if (content != null && content.getMediaTypes() != null) {
+            content.getMediaTypes().forEach((mediaType, value) -> bodies.put(normalize(mediaType),
+                    value == null ? null : compiler.compileSchema(value.getSchema())));
+        }
+    }
+
+    /**
+     * Compiles the parameters and request body of an operation.
+     *
+     * @param openAPI
+     *            the model which contains the operation, used to resolve references
+     * @param pathItem
+     *            the path item which contains the operation, may be {@code null}
+     * @param operation
+     *            the operation to compile
+     * @return the compiled operation
+     * @throws IllegalArgumentException
+     *             if a schema of the operation contains a pattern which is not a valid regular expression
+     */
+    public static OperationValidator compile(OpenAPI openAPI, PathItem pathItem, Operation operation) {
+        return new OperationValidator(EffectiveOperation.of(openAPI, pathItem, operation), openAPI,
+                new SchemaCompiler(openAPI));
+    }
+
+    /**
+     * Returns the operation this validator was compiled from.
+     *
+     * @return the operation
+     */
+    public Operation getOperation() {
+        return effectiveOperation.getOperation();
+    }
+
+    /**
+     * Returns the servers, parameters and security requirements which apply to the operation, as computed when this
+     * validator was compiled.
+     *
+     * @return the effective operation
+     */
+    public EffectiveOperation getEffectiveOperation() {
+        return effectiveOperation;
+    }
+
+    /**
+     * Validates the parameters and body of a request to this operation.
+     *
+     * @param request
+     *            the request
+     * @param pathParameters
+     *            the values of the path parameters, as returned by
+     *            {@link org.eclipse.microprofile.openapi.models.Paths#match(String, PathItem.HttpMethod) Paths.match}
+     * @return the errors found, or an empty list if the request is valid
+     */
+    public List<ValidationError> validate(RequestValidator.Request request, Map<String, String> pathParameters) {
+        List<ValidationError> errors = new ArrayList<>(0);
+        for (ParameterValidator parameter : parameters) {
+            List<String> values;
+            if (parameter.getIn() == Parameter.In.PATH) {
+                String value = pathParameters == null ? null : pathParameters.get(parameter.getName());
+                values = value == null ? null : Collections.singletonList(value);
+            } else {
+                values = request.getParameterValues(parameter.getIn(), parameter.getName());
+            }
+            parameter.check(values, errors);
+        }
+        validateBody(request, errors);
+        return errors;
+    }
+
+    private void validateBody(RequestValidator.Request request, List<ValidationError> errors) {
+        if (!request.hasBody()) {
+            if (bodyRequired) {
+                errors.add(new ValidationError("body", "is required"));
+            }
+            return;
+        }
+        if (bodies.isEmpty()) {
+            return;
+        }
+        String contentType = request.getContentType() == null ? null : normalize(request.getContentType());
+        Constraint body = null;
+        boolean found = false;
+        if (contentType != null) {
+            int slash = contentType.indexOf('/');
+            for (String key : new String[]{contentType, contentType.substring(0, slash + 1) + "*", "*/*"}) {
+                if (bodies.containsKey(key)) {
+                    body = bodies.get(key);
+                    found = true;
+                    break;
+                }
+            }
+        }
+        if (!found) {
+            errors.add(new ValidationError("body", "unsupported media type " + request.getContentType()));
+        } else if (body != null && !body.check(request.getBody(), null, null)) {
+            body.check(request.getBody(), new Pointer("body"), errors);
+        }
+    }
+
+    // Removes parameters such as charset and folds the case of a media type
+    private static String normalize(String mediaType) {
+        int semicolon = mediaType.indexOf(';');
+        String type = semicolon < 0 ? mediaType : mediaType.substring(0, semicolon);
+        return type.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,173 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.validation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.models.Constructible;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+
+/**
+ * A compiled parameter. Parameter values are strings, which are converted to the type declared by the schema of the
+ * parameter before they are validated against it.
+ */
+final class ParameterValidator {
+
+    private final String name;
+    private final Parameter.In in;
+    private final boolean required;
+    private final Constraint schema;
+    private final boolean array;
+    private final boolean explode;
+    private final String delimiter;
+    private final Set<SchemaType> valueTypes;
+
+    ParameterValidator(Parameter parameter, OpenAPI openAPI, SchemaCompiler compiler) {
+        this.name = parameter.getName();
+        this.in = parameter.getIn();
+        this.required = in == Parameter.In.PATH || Boolean.TRUE.equals(parameter.getRequired());
+        Schema parameterSchema = parameter.getSchema();
+        this.schema = parameterSchema == null ? null : compiler.compileSchema(parameterSchema);
+        Set<SchemaType> types = types(parameterSchema, openAPI);
+        this.array = types.contains(SchemaType.ARRAY);
+        this.valueTypes = array ? types(resolve(parameterSchema, openAPI).getItems(), openAPI) : types;
+        Parameter.Style style = parameter.getStyle();
+        if (style == null) {
+            style = in == Parameter.In.QUERY || in == Parameter.In.COOKIE ? Parameter.Style.FORM
+                    : Parameter.Style.SIMPLE;
+        }
+        this.explode = parameter.getExplode() == null ? style == Parameter.Style.FORM : parameter.getExplode();
+        this.delimiter = style == Parameter.Style.SPACEDELIMITED ? " "
+                : style == Parameter.Style.PIPEDELIMITED ? "|" : ",";
+    }
+
+    String getName() {
+        return name;
+    }
+
+    Parameter.In getIn() {
+        return in;
+    }
+
+    /**
+     * Checks the values of the parameter in a request.
+     *
+     * @param values
+     *            the values of the parameter, {@code null} or empty if the parameter is absent
+     * @param errors
+     *            receives the errors found
+     */
+    void check(List<String> values, List<ValidationError> errors) {
+        if (values == null || values.isEmpty()) {
+            if (required) {
+                errors.add(new ValidationError(location(), "is required"));
+            }
+            return;
+        }
+        if (schema == null) {
+            return;
+        }
+        Object value;
+        if (array) {
+            List<String> items = explode || values.size() > 1 ? values : split(values.get(0));
+            List<Object> list = new ArrayList<>(items.size());
+            for (String item : items) {
+                list.add(convert(item));
+            }
+            value = list;
+        } else {
+            value = convert(values.get(0));
+        }
+        if (!schema.check(value, null, null)) {
+            schema.check(value, new Pointer(location()), errors);
+        }
+    }
+
+    private String location() {
+        return in + "/" + name;
+    }
+
+    private List<String> split(String value) {
+        if (value.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> items = new ArrayList<>();
+        int start = 0;
+        int end;
+        while ((end = value.indexOf(delimiter, start)) >= 0) {
+            items.add(value.substring(start, end));
+            start = end + delimiter.length();
+        }
+        items.add(value.substring(start));
+        return items;
+    }
+
+    // Converts a parameter value to the first declared type it is valid for, or leaves it as a string
+    private Object convert(String value) {
+        if (valueTypes.contains(SchemaType.INTEGER)) {
+            try {
+                return value.length() < 19 ? (Object) Long.parseLong(value) : new BigInteger(value);
+            } catch (NumberFormatException e) {
+                // not an integer
+            }
+        }
+        if (valueTypes.contains(SchemaType.NUMBER)) {
+            try {
+                return new BigDecimal(value);
+            } catch (NumberFormatException e) {
+                // not a number
+            }
+        }
+        if (valueTypes.contains(SchemaType.BOOLEAN) && (value.equals("true") || value.equals("false"))) {
+            return Boolean.valueOf(value);
+        }
+        if (valueTypes.contains(SchemaType.NULL) && value.isEmpty()) {
+            return null;
+        }
+        return value;
+    }
+
+    private static Set<SchemaType> types(Schema schema, OpenAPI openAPI) {
+        Schema resolved = resolve(schema, openAPI);
+        Set<SchemaType> types = EnumSet.noneOf(SchemaType.class);
+        if (resolved != null && resolved.getType() != null) {
+            types.addAll(resolved.getType());
+        }
+        return types;
+    }
+
+    // Follows references to find the schema which declares the type
+    private static Schema resolve(Schema schema, OpenAPI openAPI) {
+        Set<Schema> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        while (schema != null && schema.getType() == null && schema.getRef() != null && openAPI != null
+                && seen.add(schema)) {
+            Constructible target = openAPI.resolve(schema.getRef());
+            schema = target instanceof Schema ? (Schema) target : null;
+        }
+        return schema;
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.validation;
+
+/**
+ * The location of a value within a request. Locations are only built while errors are being collected, and their
+ * string form is only computed when an error is reported.
+ */
+final class Pointer {
+
+    private final Pointer parent;
+    private final String token;
+
+    Pointer(String token) {
+        this(null, token);
+    }
+
+    private Pointer(Pointer parent, String token) {
+        this.parent = parent;
+        this.token = token;
+    }
+
+    /**
+     * Returns the location of a child of the value at this location.
+     *
+     * @param child
+     *            the property name or array index of the child
+     * @return the location of the child
+     */
+    Pointer child(String child) {
+        return new Pointer(this, child);
+    }
+
+    Pointer child(int index) {
+        return new Pointer(this, Integer.toString(index));
+    }
+
+    @Override
+    public String toString() {
+        return parent == null ? token : parent + "/" + token;
+    }
+}
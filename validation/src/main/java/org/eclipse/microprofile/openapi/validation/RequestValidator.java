@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.validation;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.PathRouter;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+
+/**
+ * Validates requests against the operations of an OpenAPI model.
+ * <p>
+ * The parameters and request body of every operation in the {@link OpenAPI#getPaths() paths} of the model are
+ * compiled once, when the validator is created, together with a route table of the path templates of the model.
+ * Validating a request then only involves routing its path to an operation and running the compiled validators of
+ * that operation.
+ */
+public final class RequestValidator {
+
+    /**
+     * The parts of an HTTP request which are validated.
+     */
+    public interface Request {
+
+        /**
+         * Returns the HTTP method of the request.
+         *
+         * @return the HTTP method
+         */
+        PathItem.HttpMethod getMethod();
+
+        /**
+         * Returns the path of the request, relative to the URL of the server, without query string.
+         *
+         * @return the path, e.g. {@code /bookings/42}
+         */
+        String getPath();
+
+        /**
+         * Returns the values of a query, header or cookie parameter of the request. Header names are case-insensitive.
+         *
+         * @param in
+         *            the location of the parameter
+         * @param name
+         *            the name of the parameter
+         * @return the values of the parameter, or {@code null} if the parameter is absent
+         */
+        List<String> getParameterValues(Parameter.In in, String name);
+
+        /**
+         * Returns the value of the Content-Type header of the request.
+         *
+         * @return the content type, or {@code null} if the request has no Content-Type header
+         */
+        String getContentType();
+
+        /**
+         * Returns whether the request has a body.
+         *
+         * @return {@code true} if the request has a body
+         */
+        boolean hasBody();
+
+        /**
+         * Returns the parsed body of the request, represented as it is by common JSON parsers: {@link Map} for
+         * objects, {@link List} for arrays, {@link String}, {@link Number}, {@link Boolean} and {@code null}.
+         *
+         * @return the parsed body
+         */
+        Object getBody();
+    }
+
+    private final Map<Operation, OperationValidator> operations = new IdentityHashMap<>();
+    // The compiled operations of each path template, keyed by HTTP method
+    private final PathRouter<Map<PathItem.HttpMethod, OperationValidator>> router = new PathRouter<>();
+
+    private RequestValidator(OpenAPI openAPI) {
+        SchemaCompiler compiler = new SchemaCompiler(openAPI);
+        Paths paths = openAPI.getPaths();
+        Map<String, PathItem> pathItems = paths == null ? null : paths.getPathItems();
+        if (pathItems == null) {
+            return;
+        }
+        pathItems.forEach((pathTemplate, pathItem) -> {
+            Map<PathItem.HttpMethod, OperationValidator> methods = new EnumMap<>(PathItem.HttpMethod.class);
+            if (pathItem != null) {
+                pathItem.forEachOperation((method, operation) -> {
+                    EffectiveOperation effectiveOperation = EffectiveOperation.of(openAPI, pathItem, operation);
+                    OperationValidator validator = new OperationValidator(effectiveOperation, openAPI, compiler);
+                    operations.put(operation, validator);
+                    methods.put(method, validator);
+                });
+            }
+            String equivalent = router.add(pathTemplate, methods);
+            if (equivalent != null) {
+                throw new IllegalArgumentException(
+                        "Path templates differ only by the names of their parameters: " + equivalent + ", "
+                                + pathTemplate);
+            }
+        });
+    }
+
+    /**
+     * Compiles the operations of an OpenAPI model.
+     *
+     * @param openAPI
+     *            the model
+     * @return a validator for requests to the operations of the model
+     * @throws IllegalArgumentException
+     *             if a schema of the model contains a pattern which is not a valid regular expression, or if two
+     *             path templates of the model only differ by the names of their parameters, e.g.
+     *             {@code /bookings/{id}} and {@code /bookings/{bookingId}}, so that requests cannot be routed
+     */
+    public static RequestValidator compile(OpenAPI openAPI) {
+        return new RequestValidator(openAPI);
+    }
+
+    /**
+     * Returns the compiled form of an operation of the model.
+     *
+     * @param operation
+     *            an operation of the model
+     * @return the compiled operation, or {@code null} if the operation was not part of the paths of the model when
+     *         this validator was compiled
+     */
+    public OperationValidator getOperationValidator(Operation operation) {
+        return operations.get(operation);
+    }
+
+    /**
+     * Validates a request. The operation is selected as by
+     * {@link Paths#match(String, PathItem.HttpMethod) Paths.match}, using the path templates of the model at the time
+     * this validator was compiled.
+     *
+     * @param request
+     *            the request
+     * @return the errors found, or an empty list if the request is valid
+     */
+    public List<ValidationError> validate(Request request) {
+        PathRouter.Route<Map<PathItem.HttpMethod, OperationValidator>> route = router.route(request.getPath());
+        if (route == null) {
+            return Collections.singletonList(new ValidationError("path", "does not match any path"));
+        }
+        OperationValidator operation = request.getMethod() == null ? null : route.getTarget().get(request.getMethod());
+        if (operation == null) {
+            return Collections.singletonList(new ValidationError("method", request.getMethod() + " is not allowed"));
+        }
+        return operation.validate(request, route.getPathParameters());
+    }
+}
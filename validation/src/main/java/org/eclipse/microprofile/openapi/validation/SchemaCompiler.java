@@ -0,0 +1,353 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.validation;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.eclipse.microprofile.openapi.models.Constructible;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Discriminator;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+
+/**
+ * Compiles schemas of an OpenAPI model into {@link SchemaValidator} objects.
+ * <p>
+ * The following keywords are supported: {@code $ref} to schemas within the same document, {@code type},
+ * {@code enum}, {@code const}, {@code minimum}, {@code exclusiveMinimum}, {@code maximum}, {@code exclusiveMaximum},
+ * {@code multipleOf}, {@code minLength}, {@code maxLength}, {@code pattern}, {@code prefixItems}, {@code items},
+ * {@code contains}, {@code minContains}, {@code maxContains}, {@code minItems}, {@code maxItems},
+ * {@code uniqueItems}, {@code required}, {@code properties}, {@code patternProperties},
+ * {@code additionalProperties}, {@code propertyNames}, {@code minProperties}, {@code maxProperties},
+ * {@code dependentRequired}, {@code dependentSchemas}, {@code allOf}, {@code anyOf}, {@code oneOf}, {@code not},
+ * {@code if}, {@code then} and {@code else}. Other keywords, including {@code format}, are ignored. References which
+ * cannot be resolved within the document are ignored, and so are references which lead back to a schema that is being
+ * applied to the same value, such as two component schemas which only refer to each other.
+ * <p>
+ * If a schema with {@code oneOf} (or, failing that, {@code anyOf}) alternatives has a {@link Discriminator}, an
+ * object whose discriminator property has a known value is only checked against the alternative selected by that
+ * value, instead of against every alternative. The discriminator values are taken from the mapping of the
+ * discriminator, whose values may be schema names or references, and from the names of the component schemas
+ * referenced by the alternatives. Mappings to schemas which are not among the alternatives are ignored. Values which
+ * do not select an alternative, including values which are not objects, are checked against every alternative as if
+ * there was no discriminator.
+ * <p>
+ * A compiler reuses the compiled form of schemas which it has already compiled, so all schemas of a model should be
+ * compiled with the same compiler. A compiler is not thread-safe, but the validators it returns are.
+ */
+public final class SchemaCompiler {
+
+    private static final String SCHEMAS_PREFIX = "#/components/schemas/";
+
+    private final OpenAPI openAPI;
+    private final Map<Schema, Constraint> compiled = new IdentityHashMap<>();
+    // The schemas being compiled which apply to the current value, rather than to one of its items or properties
+    private Set<Schema> applying = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Creates a compiler for the schemas of the given OpenAPI model.
+     *
+     * @param openAPI
+     *            the model used to resolve references, may be {@code null} if the schemas contain no references
+     */
+    public SchemaCompiler(OpenAPI openAPI) {
+        this.openAPI = openAPI;
+    }
+
+    /**
+     * Compiles the given schema.
+     *
+     * @param schema
+     *            the schema to compile
+     * @return the compiled schema
+     * @throws IllegalArgumentException
+     *             if the schema contains a pattern which is not a valid regular expression
+     */
+    public SchemaValidator compile(Schema schema) {
+        return new SchemaValidator(compileSchema(schema));
+    }
+
+    Constraint compileSchema(Schema schema) {
+        if (schema == null) {
+            return new Constraints.AllOf(new ArrayList<>());
+        }
+        Constraint constraint = compiled.get(schema);
+        if (constraint != null) {
+            // A cycle which does not descend into the value would never terminate, so it is ignored
+            return applying.contains(schema) ? new Constraints.AllOf(new ArrayList<>()) : constraint;
+        }
+        // Register a placeholder first, so that a schema which contains itself refers to its own compiled form
+        Constraints.Ref placeholder = new Constraints.Ref();
+        compiled.put(schema, placeholder);
+        applying.add(schema);
+        try {
+            constraint = new Constraints.AllOf(compileKeywords(schema));
+        } finally {
+            applying.remove(schema);
+        }
+        placeholder.setTarget(constraint);
+        compiled.put(schema, constraint);
+        return constraint;
+    }
+
+    // Compiles a schema which applies to an item, a property or a property name of the current value
+    private Constraint compileChild(Schema schema) {
+        Set<Schema> parents = applying;
+        applying = Collections.newSetFromMap(new IdentityHashMap<>());
+        try {
+            return compileSchema(schema);
+        } finally {
+            applying = parents;
+        }
+    }
+
+    private List<Constraint> compileKeywords(Schema schema) {
+        List<Constraint> constraints = new ArrayList<>();
+        if (Boolean.FALSE.equals(schema.getBooleanSchema())) {
+            constraints.add(new Constraints.Never("no value is allowed"));
+            return constraints;
+        }
+        if (schema.getRef() != null && openAPI != null) {
+            Schema target = resolveSchema(schema.getRef());
+            if (target != null) {
+                constraints.add(compileSchema(target));
+            }
+        }
+        compileGeneric(schema, constraints);
+        compileNumeric(schema, constraints);
+        compileString(schema, constraints);
+        compileArray(schema, constraints);
+        compileObject(schema, constraints);
+        compileApplicators(schema, constraints);
+        return constraints;
+    }
+
+    private void compileGeneric(Schema schema, List<Constraint> constraints) {
+        if (schema.typeCount() > 0) {
+            constraints.add(new Constraints.Type(schema.getType()));
+        }
+        if (schema.getEnumeration() != null) {
+            constraints.add(new Constraints.Enumeration(schema.getEnumeration()));
+        }
+        if (schema.getConstValue() != null) {
+            constraints.add(new Constraints.Const(schema.getConstValue()));
+        }
+    }
+
+    private void compileNumeric(Schema schema, List<Constraint> constraints) {
+        if (schema.getMinimum() != null) {
+            constraints.add(new Constraints.Range(schema.getMinimumValue(), false, false));
+        }
+        if (schema.getExclusiveMinimum() != null) {
+            constraints.add(new Constraints.Range(schema.getExclusiveMinimumValue(), false, true));
+        }
+        if (schema.getMaximum() != null) {
+            constraints.add(new Constraints.Range(schema.getMaximumValue(), true, false));
+        }
+        if (schema.getExclusiveMaximum() != null) {
+            constraints.add(new Constraints.Range(schema.getExclusiveMaximumValue(), true, true));
+        }
+        BigDecimal multipleOf = schema.getMultipleOf();
+        if (multipleOf != null && multipleOf.signum() > 0) {
+            constraints.add(new Constraints.MultipleOf(schema.getMultipleOfValue()));
+        }
+    }
+
+    private void compileString(Schema schema, List<Constraint> constraints) {
+        if (schema.getMinLength() != null || schema.getMaxLength() != null) {
+            constraints.add(new Constraints.Length(min(schema.getMinLength()), max(schema.getMaxLength())));
+        }
+        if (schema.getPattern() != null) {
+            try {
+                constraints.add(new Constraints.PatternMatch(schema.getCompiledPattern()));
+            } catch (PatternSyntaxException e) {
+                throw new IllegalArgumentException("Invalid pattern in schema: " + schema.getPattern(), e);
+            }
+        }
+    }
+
+    private void compileArray(Schema schema, List<Constraint> constraints) {
+        List<Constraint> prefixItems = new ArrayList<>();
+        if (schema.getPrefixItems() != null) {
+            for (Schema prefixItem : schema.getPrefixItems()) {
+                prefixItems.add(compileChild(prefixItem));
+            }
+        }
+        if (!prefixItems.isEmpty() || schema.getItems() != null) {
+            Constraint items = schema.getItems() == null ? null : compileChild(schema.getItems());
+            constraints.add(new Constraints.Items(prefixItems, items));
+        }
+        if (schema.getContains() != null) {
+            int minContains = schema.getMinContains() == null ? 1 : schema.getMinContains();
+            constraints.add(new Constraints.Contains(compileChild(schema.getContains()), minContains,
+                    max(schema.getMaxContains())));
+        }
+        if (schema.getMinItems() != null || schema.getMaxItems() != null) {
+            constraints.add(new Constraints.ItemCount(min(schema.getMinItems()), max(schema.getMaxItems())));
+        }
+        if (Boolean.TRUE.equals(schema.getUniqueItems())) {
+            constraints.add(new Constraints.UniqueItems());
+        }
+    }
+
+    private void compileObject(Schema schema, List<Constraint> constraints) {
+        if (schema.getRequired() != null && !schema.getRequired().isEmpty()) {
+            constraints.add(new Constraints.Required(schema.getRequired()));
+        }
+        Map<String, Constraint> properties = new LinkedHashMap<>();
+        if (schema.getProperties() != null) {
+            schema.getProperties().forEach((name, property) -> properties.put(name, compileChild(property)));
+        }
+        Map<Pattern, Constraint> patternProperties = new LinkedHashMap<>();
+        if (schema.getPatternProperties() != null) {
+            schema.getPatternProperties()
+                    .forEach((regex, property) -> patternProperties.put(pattern(regex), compileChild(property)));
+        }
+        // A boolean additionalProperties value is represented as a boolean schema
+        Constraint additionalProperties = schema.getAdditionalPropertiesSchema() == null ? null
+                : compileChild(schema.getAdditionalPropertiesSchema());
+        if (!properties.isEmpty() || !patternProperties.isEmpty() || additionalProperties != null) {
+            constraints.add(new Constraints.Properties(properties, patternProperties, additionalProperties));
+        }
+        if (schema.getPropertyNames() != null) {
+            constraints.add(new Constraints.PropertyNames(compileChild(schema.getPropertyNames())));
+        }
+        if (schema.getMinProperties() != null || schema.getMaxProperties() != null) {
+            constraints.add(
+                    new Constraints.PropertyCount(min(schema.getMinProperties()), max(schema.getMaxProperties())));
+        }
+        if (schema.getDependentRequired() != null) {
+            schema.getDependentRequired().forEach((name, required) -> constraints
+                    .add(new Constraints.Dependent(name, new Constraints.Required(required))));
+        }
+        if (schema.getDependentSchemas() != null) {
+            schema.getDependentSchemas().forEach((name, dependent) -> constraints
+                    .add(new Constraints.Dependent(name, compileSchema(dependent))));
+        }
+    }
+
+    private void compileApplicators(Schema schema, List<Constraint> constraints) {
+        constraints.addAll(compileAll(schema.getAllOf()));
+        boolean hasOneOf = schema.getOneOf() != null && !schema.getOneOf().isEmpty();
+        boolean hasAnyOf = schema.getAnyOf() != null && !schema.getAnyOf().isEmpty();
+        if (hasOneOf || hasAnyOf) {
+            // The discriminator applies to the oneOf alternatives if there are any, and to the anyOf ones otherwise
+            List<Schema> schemas = hasOneOf ? schema.getOneOf() : schema.getAnyOf();
+            List<Constraint> alternatives = compileAll(schemas);
+            Constraint all = hasOneOf ? new Constraints.OneOf(alternatives) : new Constraints.AnyOf(alternatives);
+            Map<String, Constraint> mapped = compileDiscriminator(schema.getDiscriminator(), schemas, alternatives);
+            constraints.add(mapped.isEmpty() ? all
+                    : new Constraints.Discriminated(schema.getDiscriminator().getPropertyName(), mapped, all));
+        }
+        if (hasOneOf && hasAnyOf) {
+            constraints.add(new Constraints.AnyOf(compileAll(schema.getAnyOf())));
+        }
+        if (schema.getNot() != null) {
+            constraints.add(new Constraints.Not(compileSchema(schema.getNot())));
+        }
+        if (schema.getIfSchema() != null && (schema.getThenSchema() != null || schema.getElseSchema() != null)) {
+            constraints.add(new Constraints.Conditional(compileSchema(schema.getIfSchema()),
+                    schema.getThenSchema() == null ? null : compileSchema(schema.getThenSchema()),
+                    schema.getElseSchema() == null ? null : compileSchema(schema.getElseSchema())));
+        }
+    }
+
+    /**
+     * Maps the values of the discriminator of a schema to its compiled alternatives. Explicit mappings take precedence
+     * over the implicit mapping of the name of a referenced component schema. A mapping selects an alternative if it
+     * refers to the same schema as the alternative, or to the schema the alternative refers to.
+     *
+     * @return the compiled alternatives by discriminator value, empty if the schema has no usable discriminator
+     */
+    private Map<String, Constraint> compileDiscriminator(Discriminator discriminator, List<Schema> schemas,
+            List<Constraint> alternatives) {
+        Map<String, Constraint> mapped = new LinkedHashMap<>();
+        if (discriminator == null || discriminator.getPropertyName() == null || openAPI == null) {
+            return mapped;
+        }
+        Map<Schema, Constraint> targets = new IdentityHashMap<>();
+        for (int i = 0; i < schemas.size(); i++) {
+            Schema alternative = schemas.get(i);
+            Schema target = alternative == null || alternative.getRef() == null ? null
+                    : resolveSchema(alternative.getRef());
+            if (target != null) {
+                targets.putIfAbsent(target, alternatives.get(i));
+            }
+        }
+        for (int i = 0; i < schemas.size(); i++) {
+            if (schemas.get(i) != null) {
+                targets.put(schemas.get(i), alternatives.get(i));
+            }
+        }
+        if (discriminator.getMapping() != null) {
+            discriminator.getMapping().forEach((value, target) -> {
+                Schema schema = target == null ? null
+                        : resolveSchema(target.startsWith("#") ? target : SCHEMAS_PREFIX + target);
+                Constraint alternative = schema == null ? null : targets.get(schema);
+                if (alternative != null) {
+                    mapped.put(value, alternative);
+                }
+            });
+        }
+        for (int i = 0; i < schemas.size(); i++) {
+            String ref = schemas.get(i) == null ? null : schemas.get(i).getRef();
+            if (ref != null && ref.startsWith(SCHEMAS_PREFIX) && ref.indexOf('/', SCHEMAS_PREFIX.length()) < 0) {
+                mapped.putIfAbsent(ref.substring(SCHEMAS_PREFIX.length()), alternatives.get(i));
+            }
+        }
+        return mapped;
+    }
+
+    private Schema resolveSchema(String ref) {
+        Constructible target = openAPI.resolve(ref);
+        return target instanceof Schema ? (Schema) target : null;
+    }
+
+    private List<Constraint> compileAll(List<Schema> schemas) {
+        List<Constraint> constraints = new ArrayList<>();
+        if (schemas != null) {
+            for (Schema schema : schemas) {
+                constraints.add(compileSchema(schema));
+            }
+        }
+        return constraints;
+    }
+
+    private static Pattern pattern(String regex) {
+        try {
+            return Schema.compilePattern(regex);
+        } catch (PatternSyntaxException e) {
+            throw new IllegalArgumentException("Invalid pattern in schema: " + regex, e);
+        }
+    }
+
+    private static int min(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    private static int max(Integer value) {
+        return value == null ? Integer.MAX_VALUE : value;
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A schema compiled by a {@link SchemaCompiler}, which validates values without interpreting the schema model.
+ * <p>
+ * Values are represented as they are by common JSON parsers: {@link java.util.Map Map} for objects,
+ * {@link java.util.List List} for arrays, {@link String}, {@link Number}, {@link Boolean} and {@code null}.
+ */
+public final class SchemaValidator {
+
+    private final Constraint constraint;
+
+    SchemaValidator(Constraint constraint) {
+        this.constraint = constraint;
+    }
+
+    Constraint constraint() {
+        return constraint;
+    }
+
+    /**
+     * Checks whether a value is valid against the schema. This does not build any error descriptions.
+     *
+     * @param value
+     *            the value to check
+     * @return {@code true} if the value is valid
+     */
+    public boolean isValid(Object value) {
+        return constraint.check(value, null, null);
+    }
+
+    /**
+     * Validates a value against the schema.
+     *
+     * @param value
+     *            the value to validate
+     * @param location
+     *            the location of the value, used as the prefix of the location of each error, e.g. {@code body}
+     * @return the errors found, or an empty list if the value is valid
+     */
+    public List<ValidationError> validate(Object value, String location) {
+        if (constraint.check(value, null, null)) {
+            return Collections.emptyList();
+        }
+        List<ValidationError> errors = new ArrayList<>();
+        constraint.check(value, new Pointer(location), errors);
+        return errors;
+    }
+}
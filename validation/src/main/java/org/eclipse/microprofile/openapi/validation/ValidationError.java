@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.validation;
+
+import java.util.Objects;
+
+/**
+ * A violation of a constraint of the OpenAPI model by a request.
+ */
+public final class ValidationError {
+
+    private final String location;
+    private final String message;
+
+    /**
+     * Creates a new validation error.
+     *
+     * @param location
+     *            the location of the invalid value
+     * @param message
+     *            a description of the violated constraint
+     */
+    public ValidationError(String location, String message) {
+        this.location = location;
+        this.message = message;
+    }
+
+    /**
+     * Returns the location of the invalid value within the request, e.g. {@code query/limit} for a query parameter or
+     * {@code body/passengers/0/name} for a property of the request body.
+     *
+     * @return the location of the invalid value
+     */
+    public String getLocation() {
+        return location;
+    }
+
+    /**
+     * Returns a description of the violated constraint.
+     *
+     * @return the description of the violated constraint
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ValidationError)) {
+            return false;
+        }
+        ValidationError other = (ValidationError) obj;
+        return Objects.equals(location, other.location) && Objects.equals(message, other.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(location, message);
+    }
+
+    @Override
+    public String toString() {
+        return location + ": " + message;
+    }
+}
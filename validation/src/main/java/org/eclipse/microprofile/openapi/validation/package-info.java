@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Validation of requests against an OpenAPI model.
+ * <p>
+ * The model is compiled once into validator objects, which can then be used to validate any number of requests
+ * without interpreting the model again. For example:
+ *
+ * <pre>
+ * <code>RequestValidator validator = RequestValidator.compile(openAPI);
+ * List&lt;ValidationError&gt; errors = validator.validate(request);
+ * </code>
+ * </pre>
+ *
+ * A compiled validator is immutable and can be used concurrently. It does not reflect modifications of the model made
+ * after it was compiled.
+ */
+
+@org.osgi.annotation.versioning.Version("1.0")
+package org.eclipse.microprofile.openapi.validation;
@@ -0,0 +1,369 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.eclipse.microprofile.openapi.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the semantics of each compiled schema keyword, and the locations and messages of the errors it reports.
+ */
+public class ConstraintsTest {
+
+    static Schema schema() {
+        return Models.create(Schema.class);
+    }
+
+    static Schema schema(SchemaType... types) {
+        return schema().type(Arrays.asList(types));
+    }
+
+    static Map<String, Object> object(Object... entries) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            map.put((String) entries[i], entries[i + 1]);
+        }
+        return map;
+    }
+
+    static <T> Map<String, T> map(String key, T value) {
+        Map<String, T> map = new LinkedHashMap<>();
+        map.put(key, value);
+        return map;
+    }
+
+    /**
+     * Validates a value against a schema, and checks that the result of {@link SchemaValidator#isValid(Object)} is
+     * consistent with the errors found.
+     */
+    static List<String> errors(Schema schema, Object value) {
+        SchemaValidator validator = new SchemaCompiler(null).compile(schema);
+        List<ValidationError> errors = validator.validate(value, "body");
+        assertEquals(validator.isValid(value), errors.isEmpty(), "isValid must agree with validate for " + value);
+        return ConstraintsTest.toStrings(errors);
+    }
+
+    static List<String> toStrings(List<ValidationError> errors) {
+        String[] strings = new String[errors.size()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = errors.get(i).toString();
+        }
+        return Arrays.asList(strings);
+    }
+
+    static void assertValid(Schema schema, Object value) {
+        assertEquals(errors(schema, value), Collections.emptyList(), "Expected " + value + " to be valid.");
+    }
+
+    static void assertErrors(Schema schema, Object value, String... expected) {
+        assertEquals(errors(schema, value), Arrays.asList(expected), "Unexpected errors for " + value + ".");
+    }
+
+    @Test
+    public void emptySchemaTest() {
+        assertValid(schema(), null);
+        assertValid(schema(), "text");
+        assertValid(schema(), object("a", 1));
+    }
+
+    @Test
+    public void falseSchemaTest() {
+        assertErrors(schema().booleanSchema(false), "text", "body: no value is allowed");
+        assertErrors(schema().booleanSchema(false), null, "body: no value is allowed");
+        assertValid(schema().booleanSchema(true), "text");
+    }
+
+    @Test
+    public void typeTest() {
+        assertValid(schema(SchemaType.STRING), "text");
+        assertValid(schema(SchemaType.NUMBER), 1.5);
+        assertValid(schema(SchemaType.INTEGER), 3);
+        assertValid(schema(SchemaType.INTEGER), 3.0);
+        assertValid(schema(SchemaType.INTEGER), new BigDecimal("3.00"));
+        assertValid(schema(SchemaType.INTEGER), new BigInteger("123456789012345678901234567890"));
+        assertValid(schema(SchemaType.BOOLEAN), true);
+        assertValid(schema(SchemaType.ARRAY), Collections.emptyList());
+        assertValid(schema(SchemaType.OBJECT), Collections.emptyMap());
+        assertValid(schema(SchemaType.NULL), null);
+        assertValid(schema(SchemaType.STRING, SchemaType.NULL), null);
+
+        assertErrors(schema(SchemaType.INTEGER), 3.5, "body: must be of type integer");
+        assertErrors(schema(SchemaType.INTEGER), "3", "body: must be of type integer");
+        assertErrors(schema(SchemaType.STRING), null, "body: must be of type string");
+        assertErrors(schema(SchemaType.OBJECT), Collections.emptyList(), "body: must be of type object");
+        assertErrors(schema(SchemaType.STRING, SchemaType.NULL), 1, "body: must be of type string or null");
+    }
+
+    @Test
+    public void enumerationTest() {
+        Schema schema = schema().enumeration(Arrays.asList("a", 1, Arrays.asList(1, 2), null));
+        assertValid(schema, "a");
+        assertValid(schema, 1.0);
+        assertValid(schema, new BigDecimal("1.00"));
+        assertValid(schema, Arrays.asList(1L, 2.0));
+        assertValid(schema, null);
+        assertErrors(schema, "b", "body: must be one of [a, 1, [1, 2], null]");
+        assertErrors(schema, Arrays.asList(2, 1), "body: must be one of [a, 1, [1, 2], null]");
+    }
+
+    @Test
+    public void constTest() {
+        Schema schema = schema().constValue(object("a", 1));
+        assertValid(schema, object("a", 1.0));
+        assertErrors(schema, object("a", 2), "body: must be equal to {a=1}");
+        assertErrors(schema, object("a", 1, "b", 2), "body: must be equal to {a=1}");
+        // Values are compared as by Schema.normalizeValue, like enumerated values
+        assertValid(schema().constValue(SchemaType.ARRAY), "array");
+        assertValid(schema().constValue(Arrays.asList(1, "a")), Arrays.asList(new BigDecimal("1.0"), "a"));
+    }
+
+    @Test
+    public void rangeTest() {
+        Schema inclusive = schema().minimum(BigDecimal.ZERO).maximum(new BigDecimal(10));
+        assertValid(inclusive, 0);
+        assertValid(inclusive, 10.0);
+        assertValid(inclusive, "not a number");
+        assertErrors(inclusive, -1, "body: must be greater than or equal to 0");
+        assertErrors(inclusive, new BigDecimal("10.000000000000000001"), "body: must be less than or equal to 10");
+
+        Schema exclusive = schema().exclusiveMinimum(BigDecimal.ZERO).exclusiveMaximum(new BigDecimal("0.3"));
+        assertValid(exclusive, 0.1);
+        assertErrors(exclusive, 0, "body: must be greater than 0");
+        assertErrors(exclusive, 0.3, "body: must be less than 0.3");
+
+        assertErrors(inclusive, Double.NaN, "body: must be a finite number", "body: must be a finite number");
+        assertErrors(schema().minimum(BigDecimal.ZERO), Double.POSITIVE_INFINITY, "body: must be a finite number");
+    }
+
+    @Test
+    public void multipleOfTest() {
+        Schema schema = schema().multipleOf(new BigDecimal("0.1"));
+        assertValid(schema, 0.3);
+        assertValid(schema, 7);
+        assertValid(schema, "not a number");
+        assertErrors(schema, 0.35, "body: must be a multiple of 0.1");
+        // A multipleOf value which is not positive is ignored
+        assertValid(schema().multipleOf(BigDecimal.ZERO), 0.35);
+    }
+
+    @Test
+    public void lengthTest() {
+        Schema schema = schema().minLength(2).maxLength(3);
+        assertValid(schema, "ab");
+        assertValid(schema, 5);
+        // The length of a string is its number of code points, not of chars
+        assertValid(schema, "\ud83d\ude00\ud83d\ude00\ud83d\ude00");
+        assertErrors(schema, "a", "body: length must be between 2 and 3");
+        assertErrors(schema, "abcd", "body: length must be between 2 and 3");
+        assertErrors(schema().maxLength(1), "ab", "body: length must be at most 1");
+        assertErrors(schema().minLength(3), "ab", "body: length must be at least 3");
+    }
+
+    @Test
+    public void patternTest() {
+        Schema schema = schema().pattern("[0-9]");
+        // As in ECMA-262, a pattern is not implicitly anchored
+        assertValid(schema, "a1b");
+        assertValid(schema, 5);
+        assertErrors(schema, "abc", "body: must match the pattern [0-9]");
+        assertErrors(schema().pattern("^[a-z]+$"), "abc\n", "body: must match the pattern ^[a-z]+(?![\\s\\S])");
+    }
+
+    @Test
+    public void itemCountTest() {
+        Schema schema = schema().minItems(1).maxItems(2);
+        assertValid(schema, Arrays.asList(1, 2));
+        assertValid(schema, "not an array");
+        assertErrors(schema, Collections.emptyList(), "body: number of items must be between 1 and 2");
+        assertErrors(schema().maxItems(1), Arrays.asList(1, 2), "body: number of items must be at most 1");
+    }
+
+    @Test
+    public void uniqueItemsTest() {
+        Schema schema = schema().uniqueItems(true);
+        assertValid(schema, Arrays.asList(1, "1", Arrays.asList(1)));
+        assertErrors(schema, Arrays.asList(1, 1.0), "body: items must be unique");
+        assertErrors(schema, Arrays.asList(object("a", 1), object("a", 1L)), "body: items must be unique");
+        assertErrors(schema, Arrays.asList("a", Arrays.asList(1), new StringBuilder("a")),
+                "body: items must be unique");
+        assertValid(schema().uniqueItems(false), Arrays.asList(1, 1));
+    }
+
+    @Test
+    public void itemsTest() {
+        Schema schema = schema().prefixItems(Arrays.asList(schema(SchemaType.STRING)))
+                .items(schema(SchemaType.INTEGER));
+        assertValid(schema, Arrays.asList("a", 1, 2));
+        assertValid(schema, Collections.emptyList());
+        assertErrors(schema, Arrays.asList(1, "b", 2, "c"), "body/0: must be of type string",
+                "body/1: must be of type integer", "body/3: must be of type integer");
+        // Items after the prefix items are not constrained when there is no items schema
+        assertValid(schema().prefixItems(Arrays.asList(schema(SchemaType.STRING))), Arrays.asList("a", 1));
+    }
+
+    @Test
+    public void containsTest() {
+        Schema schema = schema().contains(schema(SchemaType.INTEGER)).minContains(2).maxContains(3);
+        assertValid(schema, Arrays.asList(1, "a", 2));
+        assertErrors(schema, Arrays.asList(1, "a"),
+                "body: number of items matching the contains schema must be between 2 and 3");
+        assertErrors(schema, Arrays.asList(1, 2, 3, 4),
+                "body: number of items matching the contains schema must be between 2 and 3");
+        // minContains defaults to 1
+        assertErrors(schema().contains(schema(SchemaType.INTEGER)), Arrays.asList("a"),
+                "body: number of items matching the contains schema must be at least 1");
+    }
+
+    @Test
+    public void propertyCountTest() {
+        Schema schema = schema().minProperties(1).maxProperties(2);
+        assertValid(schema, object("a", 1));
+        assertValid(schema, "not an object");
+        assertErrors(schema, object(), "body: number of properties must be between 1 and 2");
+        assertErrors(schema, object("a", 1, "b", 2, "c", 3), "body: number of properties must be between 1 and 2");
+    }
+
+    @Test
+    public void requiredTest() {
+        Schema schema = schema().required(Arrays.asList("a", "b", "c"));
+        assertValid(schema, object("a", 1, "b", null, "c", 3));
+        assertValid(schema, "not an object");
+        assertErrors(schema, object("b", 2), "body/a: is required", "body/c: is required");
+    }
+
+    @Test
+    public void propertiesTest() {
+        Schema schema = schema()
+                .properties(map("name", schema(SchemaType.STRING)))
+                .patternProperties(map("^x-", schema(SchemaType.INTEGER)))
+                .additionalPropertiesSchema(schema().booleanSchema(false));
+        assertValid(schema, object("name", "a", "x-count", 1));
+        assertValid(schema, "not an object");
+        assertErrors(schema, object("name", 1, "x-count", "a", "other", true), "body/name: must be of type string",
+                "body/x-count: must be of type integer", "body/other: no value is allowed");
+
+        // A property may be constrained both by properties and by patternProperties
+        Schema both = schema()
+                .properties(map("x-name", schema(SchemaType.STRING)))
+                .patternProperties(map("^x-", schema().maxLength(2)));
+        assertErrors(both, object("x-name", "abc"), "body/x-name: length must be at most 2");
+
+        // Additional properties are only those matched by neither properties nor patternProperties
+        Schema additional = schema()
+                .properties(map("name", schema()))
+                .additionalPropertiesSchema(schema(SchemaType.INTEGER));
+        assertValid(additional, object("name", "a", "count", 1));
+        assertErrors(additional, object("count", "a"), "body/count: must be of type integer");
+    }
+
+    @Test
+    public void propertyNamesTest() {
+        Schema schema = schema().propertyNames(schema().maxLength(3));
+        assertValid(schema, object("abc", 1));
+        assertErrors(schema, object("abcd", 1, "ab", 2, "efgh", 3), "body/abcd: length must be at most 3",
+                "body/efgh: length must be at most 3");
+    }
+
+    @Test
+    public void dependentTest() {
+        Map<String, List<String>> dependentRequired = new LinkedHashMap<>();
+        dependentRequired.put("card", Arrays.asList("cvv"));
+        Schema required = schema().dependentRequired(dependentRequired);
+        assertValid(required, object("name", "a"));
+        assertValid(required, object("card", "1", "cvv", "2"));
+        assertErrors(required, object("card", "1"), "body/cvv: is required");
+
+        Schema schemas = schema().dependentSchemas(map("card", schema().maxProperties(1)));
+        assertValid(schemas, object("name", "a", "other", "b"));
+        assertErrors(schemas, object("card", "1", "other", "b"), "body: number of properties must be at most 1");
+    }
+
+    @Test
+    public void allOfTest() {
+        Schema schema = schema().allOf(Arrays.asList(schema(SchemaType.STRING), schema().minLength(2)));
+        assertValid(schema, "ab");
+        assertErrors(schema, 1, "body: must be of type string");
+        assertErrors(schema, "a", "body: length must be at least 2");
+    }
+
+    @Test
+    public void anyOfTest() {
+        Schema schema = schema().anyOf(Arrays.asList(schema(SchemaType.STRING),
+                schema(SchemaType.NUMBER).minimum(BigDecimal.TEN)));
+        assertValid(schema, "a");
+        assertValid(schema, 11);
+        assertErrors(schema, 9, "body: must match at least one of the anyOf schemas");
+        assertErrors(schema, true, "body: must match at least one of the anyOf schemas");
+    }
+
+    @Test
+    public void oneOfTest() {
+        Schema schema = schema().oneOf(Arrays.asList(schema(SchemaType.INTEGER), schema().minimum(BigDecimal.TEN)));
+        assertValid(schema, 1);
+        assertValid(schema, 10.5);
+        assertErrors(schema, 11, "body: must match exactly one of the oneOf schemas");
+        assertErrors(schema, 1.5, "body: must match exactly one of the oneOf schemas");
+    }
+
+    @Test
+    public void notTest() {
+        Schema schema = schema().not(schema(SchemaType.NULL));
+        assertValid(schema, "a");
+        assertErrors(schema, null, "body: must not match the not schema");
+    }
+
+    @Test
+    public void conditionalTest() {
+        Schema schema = schema()
+                .ifSchema(schema().properties(map("country", schema().constValue("US"))))
+                .thenSchema(schema().required(Arrays.asList("zip")))
+                .elseSchema(schema().required(Arrays.asList("postcode")));
+        assertValid(schema, object("country", "US", "zip", "10001"));
+        assertValid(schema, object("country", "GB", "postcode", "SW1"));
+        assertErrors(schema, object("country", "US"), "body/zip: is required");
+        assertErrors(schema, object("country", "GB"), "body/postcode: is required");
+        // Without then or else, if has no effect
+        assertValid(schema().ifSchema(schema().booleanSchema(false)), "a");
+    }
+
+    @Test
+    public void nestedLocationTest() {
+        Schema passenger = schema(SchemaType.OBJECT)
+                .required(Arrays.asList("name"))
+                .properties(map("name", schema(SchemaType.STRING)));
+        Schema booking = schema(SchemaType.OBJECT)
+                .properties(map("passengers", schema(SchemaType.ARRAY).items(passenger)));
+        assertErrors(booking, object("passengers", Arrays.asList(object("name", "a"), object(), object("name", 2))),
+                "body/passengers/1/name: is required", "body/passengers/2/name: must be of type string");
+        assertTrue(new SchemaCompiler(null).compile(booking).isValid(object("passengers", Collections.emptyList())));
+        assertFalse(new SchemaCompiler(null).compile(booking).isValid(object("passengers", "a")));
+    }
+}
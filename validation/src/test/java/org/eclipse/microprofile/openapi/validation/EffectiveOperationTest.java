@@ -0,0 +1,228 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.eclipse.microprofile.openapi.validation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.testng.annotations.Test;
+
+/**
+ * Tests how the servers, parameters and security requirements of an operation are merged with those of its path item
+ * and document.
+ */
+public class EffectiveOperationTest {
+
+    static Parameter parameter(String name, Parameter.In in) {
+        return Models.create(Parameter.class).name(name).in(in);
+    }
+
+    static List<Server> servers(int count) {
+        List<Server> servers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            servers.add(Models.create(Server.class));
+        }
+        return servers;
+    }
+
+    static List<SecurityRequirement> security(int count) {
+        List<SecurityRequirement> security = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            security.add(Models.create(SecurityRequirement.class));
+        }
+        return security;
+    }
+
+    @Test
+    public void parametersTest() {
+        Parameter pathId = parameter("id", Parameter.In.PATH);
+        Parameter pathLimit = parameter("limit", Parameter.In.QUERY);
+        Parameter headerLimit = parameter("limit", Parameter.In.HEADER);
+        Parameter operationLimit = parameter("limit", Parameter.In.QUERY);
+        Parameter operationSort = parameter("sort", Parameter.In.QUERY);
+        PathItem pathItem = Models.create(PathItem.class).parameters(Arrays.asList(pathId, pathLimit, headerLimit));
+        Operation operation = Models.create(Operation.class).parameters(Arrays.asList(operationSort, operationLimit));
+
+        // An operation parameter replaces the path item parameter with the same name and location, in its place
+        assertEquals(EffectiveOperation.of(null, pathItem, operation).getParameters(),
+                Arrays.asList(pathId, operationLimit, headerLimit, operationSort));
+        assertEquals(EffectiveOperation.of(null, null, operation).getParameters(),
+                Arrays.asList(operationSort, operationLimit));
+        assertEquals(EffectiveOperation.of(null, pathItem, Models.create(Operation.class)).getParameters(),
+                Arrays.asList(pathId, pathLimit, headerLimit));
+
+        // Parameters without a name or location are omitted
+        Operation incomplete = Models.create(Operation.class).parameters(Arrays.asList(
+                parameter(null, Parameter.In.QUERY), parameter("x", null), null));
+        assertEquals(EffectiveOperation.of(null, null, incomplete).getParameters(), Collections.emptyList());
+    }
+
+    @Test
+    public void parameterReferenceTest() {
+        Parameter limit = parameter("limit", Parameter.In.QUERY);
+        Components components = Models.create(Components.class);
+        components.setParameters(ConstraintsTest.map("limit", limit));
+        OpenAPI openAPI = Models.create(OpenAPI.class).components(components);
+        Parameter ref = Models.create(Parameter.class).ref("#/components/parameters/limit");
+        Parameter override = parameter("limit", Parameter.In.QUERY);
+
+        PathItem pathItem = Models.create(PathItem.class).parameters(Arrays.asList(ref));
+        assertEquals(EffectiveOperation.of(openAPI, pathItem, Models.create(Operation.class)).getParameters(),
+                Arrays.asList(limit));
+        // A resolved parameter is replaced by an operation parameter with the same name and location
+        Operation operation = Models.create(Operation.class).parameters(Arrays.asList(override));
+        assertEquals(EffectiveOperation.of(openAPI, pathItem, operation).getParameters(), Arrays.asList(override));
+        // A reference which cannot be resolved is omitted
+        Parameter missing = Models.create(Parameter.class).ref("#/components/parameters/missing");
+        operation.setParameters(Arrays.asList(missing));
+        assertEquals(EffectiveOperation.of(openAPI, pathItem, operation).getParameters(), Arrays.asList(limit));
+    }
+
+    @Test
+    public void serversTest() {
+        List<Server> documentServers = servers(2);
+        List<Server> pathServers = servers(1);
+        List<Server> operationServers = servers(1);
+        OpenAPI openAPI = Models.create(OpenAPI.class).servers(documentServers);
+        PathItem pathItem = Models.create(PathItem.class).servers(pathServers);
+        Operation operation = Models.create(Operation.class).servers(operationServers);
+
+        assertEquals(EffectiveOperation.of(openAPI, pathItem, operation).getServers(), operationServers);
+        operation.setServers(Collections.emptyList());
+        assertEquals(EffectiveOperation.of(openAPI, pathItem, operation).getServers(), pathServers);
+        pathItem.setServers(null);
+        assertEquals(EffectiveOperation.of(openAPI, pathItem, operation).getServers(), documentServers);
+        assertEquals(EffectiveOperation.of(openAPI, null, operation).getServers(), documentServers);
+        assertEquals(EffectiveOperation.of(null, null, operation).getServers(), Collections.emptyList());
+    }
+
+    @Test
+    public void securityTest() {
+        List<SecurityRequirement> documentSecurity = security(2);
+        List<SecurityRequirement> operationSecurity = security(1);
+        OpenAPI openAPI = Models.create(OpenAPI.class).security(documentSecurity);
+        Operation operation = Models.create(Operation.class).security(operationSecurity);
+
+        assertEquals(EffectiveOperation.of(openAPI, null, operation).getSecurity(), operationSecurity);
+        // An empty list of security requirements removes the requirements of the document
+        operation.setSecurity(Collections.emptyList());
+        assertEquals(EffectiveOperation.of(openAPI, null, operation).getSecurity(), Collections.emptyList());
+        operation.setSecurity(null);
+        assertEquals(EffectiveOperation.of(openAPI, null, operation).getSecurity(), documentSecurity);
+    }
+
+    @Test
+    public void immutableTest() {
+        List<Server> servers = new ArrayList<>(servers(1));
+        PathItem pathItem = Models.create(PathItem.class).servers(servers);
+        Operation operation = Models.create(Operation.class);
+        EffectiveOperation effective = EffectiveOperation.of(null, pathItem, operation);
+        assertSame(effective.getOperation(), operation);
+        assertSame(effective.getPathItem(), pathItem);
+
+        servers.clear();
+        assertEquals(effective.getServers().size(), 1);
+        try {
+            effective.getServers().clear();
+            fail("Expected the servers of an effective operation to be unmodifiable");
+        } catch (UnsupportedOperationException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void cacheTest() {
+        OpenAPI openAPI = Models.create(OpenAPI.class).servers(servers(1));
+        EffectiveOperation.Cache cache = new EffectiveOperation.Cache(openAPI);
+        PathItem pathItem = Models.create(PathItem.class);
+        PathItem otherPathItem = Models.create(PathItem.class);
+        Operation operation = Models.create(Operation.class);
+
+        EffectiveOperation effective = cache.get(pathItem, operation);
+        assertSame(cache.get(pathItem, operation), effective);
+        // The same operation in another path item, or without a path item, is a different effective operation
+        assertNotSame(cache.get(otherPathItem, operation), effective);
+        assertNull(cache.get(null, operation).getPathItem());
+        assertSame(cache.get(null, operation), cache.get(null, operation));
+
+        // Modifications of the model are only seen once the cache is cleared
+        operation.setServers(servers(1));
+        assertEquals(cache.get(pathItem, operation).getServers(), openAPI.getServers());
+        cache.clear();
+        assertEquals(cache.get(pathItem, operation).getServers(), operation.getServers());
+
+        try {
+            cache.get(pathItem, null);
+            fail("Expected a NullPointerException for a null operation");
+        } catch (NullPointerException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void concurrentCacheTest() throws Exception {
+        EffectiveOperation.Cache cache = new EffectiveOperation.Cache(null);
+        PathItem pathItem = Models.create(PathItem.class);
+        List<Operation> operations = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            operations.add(Models.create(Operation.class));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<EffectiveOperation>>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(executor.submit(() -> {
+                    List<EffectiveOperation> effective = new ArrayList<>();
+                    for (Operation operation : operations) {
+                        effective.add(cache.get(pathItem, operation));
+                    }
+                    return effective;
+                }));
+            }
+            // Every thread sees the same effective operation for each operation
+            List<EffectiveOperation> first = results.get(0).get();
+            for (Future<List<EffectiveOperation>> result : results) {
+                List<EffectiveOperation> effective = result.get();
+                for (int i = 0; i < operations.size(); i++) {
+                    assertSame(effective.get(i), first.get(i));
+                    assertSame(effective.get(i).getOperation(), operations.get(i));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
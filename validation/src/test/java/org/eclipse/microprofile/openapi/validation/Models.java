@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.eclipse.microprofile.openapi.validation;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.Constructible;
+
+/**
+ * A minimal implementation of the model interfaces for the tests of this module, which does not depend on an
+ * implementation of the OASFactory.
+ * <p>
+ * Each model object is a proxy which stores the properties set through its setters, and answers the corresponding
+ * getters. Default methods of the model interfaces, such as builder methods, are invoked as they are. Model objects
+ * are only equal to themselves.
+ */
+final class Models {
+
+    private Models() {
+    }
+
+    /**
+     * Creates an empty model object.
+     *
+     * @param type
+     *            the model interface
+     * @return a new model object implementing the interface
+     */
+    static <T extends Constructible> T create(Class<T> type) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        Object proxy = Proxy.newProxyInstance(Models.class.getClassLoader(), new Class<?>[]{type},
+                (self, method, args) -> invoke(type, properties, self, method, args));
+        return type.cast(proxy);
+    }
+
+    private static Object invoke(Class<?> type, Map<String, Object> properties, Object self, Method method,
+            Object[] args) throws Throwable {
+        String name = method.getName();
+        int arity = args == null ? 0 : args.length;
+        if (name.equals("equals") && arity == 1) {
+            return self == args[0];
+        }
+        if (name.equals("hashCode") && arity == 0) {
+            return System.identityHashCode(self);
+        }
+        if (name.equals("toString") && arity == 0) {
+            return type.getSimpleName() + properties;
+        }
+        if (method.isDefault()) {
+            Class<?> declaring = method.getDeclaringClass();
+            return MethodHandles.privateLookupIn(declaring, MethodHandles.lookup())
+                    .unreflectSpecial(method, declaring)
+                    .bindTo(self)
+                    .invokeWithArguments(args == null ? new Object[0] : args);
+        }
+        if (name.equals("getAll") && arity == 0) {
+            return properties;
+        }
+        if (name.equals("get") && arity == 1) {
+            return properties.get(args[0]);
+        }
+        if (name.equals("set") && arity == 2) {
+            properties.put((String) args[0], args[1]);
+            return self;
+        }
+        if (name.startsWith("get") && arity == 0) {
+            return properties.get(property(name));
+        }
+        if (name.startsWith("set") && arity == 1) {
+            properties.put(property(name), args[0]);
+            return null;
+        }
+        throw new UnsupportedOperationException(type.getSimpleName() + "." + name);
+    }
+
+    private static String property(String accessor) {
+        return Character.toLowerCase(accessor.charAt(3)) + accessor.substring(4);
+    }
+}
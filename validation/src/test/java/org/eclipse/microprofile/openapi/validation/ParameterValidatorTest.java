@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.eclipse.microprofile.openapi.validation;
+
+import static org.eclipse.microprofile.openapi.validation.ConstraintsTest.map;
+import static org.eclipse.microprofile.openapi.validation.ConstraintsTest.schema;
+import static org.testng.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the conversion of the string values of parameters before they are checked against their schema.
+ */
+public class ParameterValidatorTest {
+
+    static Parameter parameter(String name, Parameter.In in, Schema schema) {
+        return Models.create(Parameter.class).name(name).in(in).schema(schema);
+    }
+
+    static List<String> errors(Parameter parameter, String... values) {
+        return errors(null, parameter, values == null ? null : Arrays.asList(values));
+    }
+
+    static List<String> errors(OpenAPI openAPI, Parameter parameter, List<String> values) {
+        List<ValidationError> errors = new ArrayList<>();
+        new ParameterValidator(parameter, openAPI, new SchemaCompiler(openAPI)).check(values, errors);
+        return ConstraintsTest.toStrings(errors);
+    }
+
+    @Test
+    public void requiredTest() {
+        Parameter query = parameter("limit", Parameter.In.QUERY, schema(SchemaType.INTEGER));
+        assertEquals(errors(query, (String[]) null), Collections.emptyList());
+        assertEquals(errors(query), Collections.emptyList());
+        query.setRequired(true);
+        assertEquals(errors(query, (String[]) null), Arrays.asList("query/limit: is required"));
+        assertEquals(errors(query), Arrays.asList("query/limit: is required"));
+        assertEquals(errors(query, "1"), Collections.emptyList());
+
+        // Path parameters are always required
+        Parameter path = parameter("id", Parameter.In.PATH, schema(SchemaType.STRING)).required(false);
+        assertEquals(errors(path, (String[]) null), Arrays.asList("path/id: is required"));
+
+        // A required parameter without a schema only needs to be present
+        Parameter header = parameter("X-Request-Id", Parameter.In.HEADER, null).required(true);
+        assertEquals(errors(header, "anything"), Collections.emptyList());
+        assertEquals(errors(header, (String[]) null), Arrays.asList("header/X-Request-Id: is required"));
+    }
+
+    @Test
+    public void integerConversionTest() {
+        Parameter parameter = parameter("limit", Parameter.In.QUERY,
+                schema(SchemaType.INTEGER).maximum(new BigDecimal("99999999999999999999")));
+        assertEquals(errors(parameter, "10"), Collections.emptyList());
+        assertEquals(errors(parameter, "-3"), Collections.emptyList());
+        assertEquals(errors(parameter, "12345678901234567890"), Collections.emptyList());
+        assertEquals(errors(parameter, "123456789012345678901"),
+                Arrays.asList("query/limit: must be less than or equal to 99999999999999999999"));
+        // Values which are not integers are left as strings, and fail the type check
+        assertEquals(errors(parameter, "ten"), Arrays.asList("query/limit: must be of type integer"));
+        assertEquals(errors(parameter, "1.5"), Arrays.asList("query/limit: must be of type integer"));
+        assertEquals(errors(parameter, ""), Arrays.asList("query/limit: must be of type integer"));
+        assertEquals(errors(parameter, " 1"), Arrays.asList("query/limit: must be of type integer"));
+    }
+
+    @Test
+    public void numberConversionTest() {
+        Parameter parameter = parameter("price", Parameter.In.QUERY,
+                schema(SchemaType.NUMBER).minimum(BigDecimal.ZERO));
+        assertEquals(errors(parameter, "1.25"), Collections.emptyList());
+        assertEquals(errors(parameter, "1e3"), Collections.emptyList());
+        assertEquals(errors(parameter, "-0.5"), Arrays.asList("query/price: must be greater than or equal to 0"));
+        assertEquals(errors(parameter, "NaN"), Arrays.asList("query/price: must be of type number"));
+        assertEquals(errors(parameter, "one"), Arrays.asList("query/price: must be of type number"));
+    }
+
+    @Test
+    public void booleanConversionTest() {
+        Parameter parameter = parameter("dryRun", Parameter.In.QUERY, schema(SchemaType.BOOLEAN));
+        assertEquals(errors(parameter, "true"), Collections.emptyList());
+        assertEquals(errors(parameter, "false"), Collections.emptyList());
+        assertEquals(errors(parameter, "TRUE"), Arrays.asList("query/dryRun: must be of type boolean"));
+        assertEquals(errors(parameter, "1"), Arrays.asList("query/dryRun: must be of type boolean"));
+    }
+
+    @Test
+    public void multipleTypesTest() {
+        // A value is converted to the first type, in the order integer, number, boolean, null, it is valid for
+        Parameter parameter = parameter("size", Parameter.In.QUERY,
+                schema(SchemaType.INTEGER, SchemaType.BOOLEAN, SchemaType.NULL));
+        assertEquals(errors(parameter, "1"), Collections.emptyList());
+        assertEquals(errors(parameter, "true"), Collections.emptyList());
+        assertEquals(errors(parameter, ""), Collections.emptyList());
+        assertEquals(errors(parameter, "large"),
+                Arrays.asList("query/size: must be of type integer or boolean or null"));
+
+        // A string type accepts any value which is not converted
+        Parameter text = parameter("q", Parameter.In.QUERY,
+                schema(SchemaType.INTEGER, SchemaType.STRING).enumeration(Arrays.asList(1, "one")));
+        assertEquals(errors(text, "1"), Collections.emptyList());
+        assertEquals(errors(text, "one"), Collections.emptyList());
+        assertEquals(errors(text, "2"), Arrays.asList("query/q: must be one of [1, one]"));
+    }
+
+    @Test
+    public void arrayTest() {
+        Schema integers = schema(SchemaType.ARRAY).items(schema(SchemaType.INTEGER)).maxItems(3);
+
+        // Query parameters use the form style, which explodes arrays into repeated parameters by default
+        Parameter form = parameter("id", Parameter.In.QUERY, integers);
+        assertEquals(errors(form, "1", "2"), Collections.emptyList());
+        assertEquals(errors(form, "1", "x", "3"), Arrays.asList("query/id/1: must be of type integer"));
+        assertEquals(errors(form, "1", "2", "3", "4"), Arrays.asList("query/id: number of items must be at most 3"));
+        // A single value is not split when the array is exploded
+        assertEquals(errors(form, "1,2"), Arrays.asList("query/id/0: must be of type integer"));
+
+        form.setExplode(false);
+        assertEquals(errors(form, "1,2"), Collections.emptyList());
+        assertEquals(errors(form, "1,,2"), Arrays.asList("query/id/1: must be of type integer"));
+
+        Parameter spaces = parameter("id", Parameter.In.QUERY, integers).style(Parameter.Style.SPACEDELIMITED)
+                .explode(false);
+        assertEquals(errors(spaces, "1 2 3"), Collections.emptyList());
+        assertEquals(errors(spaces, "1,2"), Arrays.asList("query/id/0: must be of type integer"));
+
+        Parameter pipes = parameter("id", Parameter.In.QUERY, integers).style(Parameter.Style.PIPEDELIMITED)
+                .explode(false);
+        assertEquals(errors(pipes, "1|2|z"), Arrays.asList("query/id/2: must be of type integer"));
+
+        // Path and header parameters use the simple style, which does not explode arrays by default
+        Parameter path = parameter("ids", Parameter.In.PATH, integers);
+        assertEquals(errors(path, "4,5,6"), Collections.emptyList());
+        assertEquals(errors(path, "4,5,6,7"), Arrays.asList("path/ids: number of items must be at most 3"));
+        assertEquals(errors(path, ""), Collections.emptyList());
+    }
+
+    @Test
+    public void referenceTest() {
+        // The type of a parameter declared by reference is found by following the reference
+        OpenAPI openAPI = SchemaCompilerTest.openAPI(map("Ids",
+                schema(SchemaType.ARRAY).items(SchemaCompilerTest.ref("Id"))));
+        openAPI.getComponents().getSchemas().put("Id", schema(SchemaType.INTEGER).minimum(BigDecimal.ONE));
+
+        Parameter single = parameter("id", Parameter.In.PATH, SchemaCompilerTest.ref("Id"));
+        assertEquals(errors(openAPI, single, Arrays.asList("7")), Collections.emptyList());
+        assertEquals(errors(openAPI, single, Arrays.asList("0")),
+                Arrays.asList("path/id: must be greater than or equal to 1"));
+
+        Parameter array = parameter("ids", Parameter.In.QUERY, SchemaCompilerTest.ref("Ids"));
+        assertEquals(errors(openAPI, array, Arrays.asList("1", "2")), Collections.emptyList());
+        assertEquals(errors(openAPI, array, Arrays.asList("1", "0")),
+                Arrays.asList("query/ids/1: must be greater than or equal to 1"));
+    }
+}
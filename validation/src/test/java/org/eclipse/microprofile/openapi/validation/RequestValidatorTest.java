@@ -0,0 +1,260 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.eclipse.microprofile.openapi.validation;
+
+import static org.eclipse.microprofile.openapi.validation.ConstraintsTest.map;
+import static org.eclipse.microprofile.openapi.validation.ConstraintsTest.object;
+import static org.eclipse.microprofile.openapi.validation.ConstraintsTest.schema;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the routing of requests to operations, and the validation of their parameters and bodies.
+ */
+public class RequestValidatorTest {
+
+    /**
+     * A request with query parameters and an optional body.
+     */
+    static final class TestRequest implements RequestValidator.Request {
+
+        private final PathItem.HttpMethod method;
+        private final String path;
+        private final Map<String, List<String>> query = new LinkedHashMap<>();
+        private String contentType;
+        private boolean hasBody;
+        private Object body;
+
+        TestRequest(PathItem.HttpMethod method, String path) {
+            this.method = method;
+            this.path = path;
+        }
+
+        TestRequest query(String name, String... values) {
+            query.put(name, Arrays.asList(values));
+            return this;
+        }
+
+        TestRequest body(String contentType, Object body) {
+            this.contentType = contentType;
+            this.hasBody = true;
+            this.body = body;
+            return this;
+        }
+
+        @Override
+        public PathItem.HttpMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public String getPath() {
+            return path;
+        }
+
+        @Override
+        public List<String> getParameterValues(Parameter.In in, String name) {
+            return in == Parameter.In.QUERY ? query.get(name) : null;
+        }
+
+        @Override
+        public String getContentType() {
+            return contentType;
+        }
+
+        @Override
+        public boolean hasBody() {
+            return hasBody;
+        }
+
+        @Override
+        public Object getBody() {
+            return body;
+        }
+    }
+
+    static Operation operation(String operationId, Parameter... parameters) {
+        return Models.create(Operation.class).operationId(operationId).parameters(Arrays.asList(parameters));
+    }
+
+    static RequestBody requestBody(boolean required, String mediaType, Schema schema) {
+        Content content = Models.create(Content.class);
+        content.setMediaTypes(map(mediaType, Models.create(MediaType.class).schema(schema)));
+        return Models.create(RequestBody.class).required(required).content(content);
+    }
+
+    static OpenAPI openAPI(Map<String, PathItem> pathItems) {
+        Paths paths = Models.create(Paths.class);
+        paths.setPathItems(pathItems);
+        return Models.create(OpenAPI.class).paths(paths);
+    }
+
+    static List<String> errors(RequestValidator validator, TestRequest request) {
+        return ConstraintsTest.toStrings(validator.validate(request));
+    }
+
+    @Test
+    public void routingTest() {
+        Parameter id = ParameterValidatorTest.parameter("id", Parameter.In.PATH, schema(SchemaType.INTEGER));
+        Parameter name = ParameterValidatorTest.parameter("name", Parameter.In.PATH, schema().maxLength(3));
+        Map<String, PathItem> pathItems = new LinkedHashMap<>();
+        pathItems.put("/bookings/{id}", Models.create(PathItem.class).GET(operation("getBooking", id)));
+        pathItems.put("/bookings/latest", Models.create(PathItem.class).GET(operation("getLatest")));
+        pathItems.put("/files/{name}.json", Models.create(PathItem.class).GET(operation("getFile", name)));
+        RequestValidator validator = RequestValidator.compile(openAPI(pathItems));
+
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.GET, "/bookings/42")),
+                Collections.emptyList());
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.GET, "/bookings/x")),
+                Arrays.asList("path/id: must be of type integer"));
+        // A literal segment takes precedence over a template expression
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.GET, "/bookings/latest")),
+                Collections.emptyList());
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.GET, "/files/abc.json")),
+                Collections.emptyList());
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.GET, "/files/abcd.json")),
+                Arrays.asList("path/name: length must be at most 3"));
+
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.GET, "/bookings")),
+                Arrays.asList("path: does not match any path"));
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.GET, "/bookings/42/seats")),
+                Arrays.asList("path: does not match any path"));
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.DELETE, "/bookings/42")),
+                Arrays.asList("method: DELETE is not allowed"));
+    }
+
+    @Test
+    public void equivalentPathTemplatesTest() {
+        Map<String, PathItem> pathItems = new LinkedHashMap<>();
+        pathItems.put("/bookings/{id}", Models.create(PathItem.class).GET(operation("getBooking")));
+        pathItems.put("/bookings/{bookingId}", Models.create(PathItem.class).DELETE(operation("deleteBooking")));
+        try {
+            RequestValidator.compile(openAPI(pathItems));
+            fail("Expected an IllegalArgumentException for path templates which only differ by parameter names");
+        } catch (IllegalArgumentException e) {
+            assertEquals(e.getMessage(), "Path templates differ only by the names of their parameters: "
+                    + "/bookings/{id}, /bookings/{bookingId}");
+        }
+    }
+
+    @Test
+    public void parametersTest() {
+        Parameter limit = ParameterValidatorTest.parameter("limit", Parameter.In.QUERY, schema(SchemaType.INTEGER))
+                .required(true);
+        Parameter sort = ParameterValidatorTest.parameter("sort", Parameter.In.QUERY,
+                schema().enumeration(Arrays.asList("asc", "desc")));
+        PathItem pathItem = Models.create(PathItem.class)
+                .parameters(Arrays.asList(limit))
+                .GET(operation("listBookings", sort));
+        RequestValidator validator = RequestValidator.compile(openAPI(map("/bookings", pathItem)));
+
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.GET, "/bookings").query("limit", "10")),
+                Collections.emptyList());
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.GET, "/bookings").query("sort", "up")),
+                Arrays.asList("query/limit: is required", "query/sort: must be one of [asc, desc]"));
+    }
+
+    @Test
+    public void bodyTest() {
+        Schema booking = schema(SchemaType.OBJECT)
+                .required(Arrays.asList("passengers"))
+                .properties(map("passengers", schema(SchemaType.ARRAY).items(
+                        schema(SchemaType.OBJECT).required(Arrays.asList("name")))));
+        PathItem pathItem = Models.create(PathItem.class)
+                .POST(operation("createBooking").requestBody(requestBody(true, "application/json", booking)));
+        RequestValidator validator = RequestValidator.compile(openAPI(map("/bookings", pathItem)));
+
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.POST, "/bookings")
+                .body("application/json", object("passengers", Arrays.asList(object("name", "a"))))),
+                Collections.emptyList());
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.POST, "/bookings")
+                .body("application/json", object("passengers", Arrays.asList(object("name", "a"), object())))),
+                Arrays.asList("body/passengers/1/name: is required"));
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.POST, "/bookings")
+                .body("application/json", Collections.emptyList())),
+                Arrays.asList("body: must be of type object"));
+        // Media type parameters and case are ignored
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.POST, "/bookings")
+                .body("Application/JSON; charset=UTF-8", object())),
+                Arrays.asList("body/passengers: is required"));
+
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.POST, "/bookings")),
+                Arrays.asList("body: is required"));
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.POST, "/bookings")
+                .body("text/plain", "text")),
+                Arrays.asList("body: unsupported media type text/plain"));
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.POST, "/bookings")
+                .body(null, object())),
+                Arrays.asList("body: unsupported media type null"));
+    }
+
+    @Test
+    public void mediaRangeTest() {
+        PathItem pathItem = Models.create(PathItem.class)
+                .PUT(operation("putImage").requestBody(requestBody(false, "image/*", schema(SchemaType.STRING))));
+        RequestValidator validator = RequestValidator.compile(openAPI(map("/image", pathItem)));
+
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.PUT, "/image")), Collections.emptyList());
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.PUT, "/image").body("image/png", "data")),
+                Collections.emptyList());
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.PUT, "/image").body("image/png", 1)),
+                Arrays.asList("body: must be of type string"));
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.PUT, "/image").body("text/png", "data")),
+                Arrays.asList("body: unsupported media type text/png"));
+    }
+
+    @Test
+    public void compiledModelTest() {
+        // The validator is not affected by modifications of the model after it was compiled
+        Parameter limit = ParameterValidatorTest.parameter("limit", Parameter.In.QUERY, schema(SchemaType.INTEGER));
+        Operation operation = operation("listBookings", limit);
+        PathItem pathItem = Models.create(PathItem.class).GET(operation);
+        Map<String, PathItem> pathItems = new LinkedHashMap<>();
+        pathItems.put("/bookings", pathItem);
+        OpenAPI openAPI = openAPI(pathItems);
+        RequestValidator validator = RequestValidator.compile(openAPI);
+
+        limit.setRequired(true);
+        pathItems.put("/flights", pathItem);
+        pathItem.setGET(null);
+
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.GET, "/bookings")), Collections.emptyList());
+        assertEquals(errors(validator, new TestRequest(PathItem.HttpMethod.GET, "/flights")),
+                Arrays.asList("path: does not match any path"));
+        assertSame(validator.getOperationValidator(operation).getOperation(), operation);
+    }
+}
@@ -0,0 +1,266 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.eclipse.microprofile.openapi.validation;
+
+import static org.eclipse.microprofile.openapi.validation.ConstraintsTest.assertErrors;
+import static org.eclipse.microprofile.openapi.validation.ConstraintsTest.map;
+import static org.eclipse.microprofile.openapi.validation.ConstraintsTest.object;
+import static org.eclipse.microprofile.openapi.validation.ConstraintsTest.schema;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Discriminator;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the resolution of references by the {@link SchemaCompiler}, including recursive schemas.
+ */
+public class SchemaCompilerTest {
+
+    static OpenAPI openAPI(Map<String, Schema> schemas) {
+        return Models.create(OpenAPI.class).components(Models.create(Components.class).schemas(schemas));
+    }
+
+    static Schema ref(String name) {
+        return schema().ref("#/components/schemas/" + name);
+    }
+
+    static List<String> errors(OpenAPI openAPI, Schema schema, Object value) {
+        SchemaValidator validator = new SchemaCompiler(openAPI).compile(schema);
+        List<ValidationError> errors = validator.validate(value, "body");
+        assertEquals(validator.isValid(value), errors.isEmpty(), "isValid must agree with validate for " + value);
+        return ConstraintsTest.toStrings(errors);
+    }
+
+    @Test
+    public void referenceTest() {
+        OpenAPI openAPI = openAPI(map("Name", schema(SchemaType.STRING).minLength(1)));
+        Schema schema = schema(SchemaType.OBJECT).properties(map("name", ref("Name")));
+        assertEquals(errors(openAPI, schema, object("name", "a")), Collections.emptyList());
+        assertEquals(errors(openAPI, schema, object("name", "")),
+                Arrays.asList("body/name: length must be at least 1"));
+        assertEquals(errors(openAPI, schema, object("name", 1)), Arrays.asList("body/name: must be of type string"));
+    }
+
+    @Test
+    public void referenceSiblingsTest() {
+        // Keywords next to $ref apply in addition to the referenced schema
+        OpenAPI openAPI = openAPI(map("Name", schema(SchemaType.STRING)));
+        Schema schema = ref("Name").maxLength(2);
+        assertEquals(errors(openAPI, schema, "abc"), Arrays.asList("body: length must be at most 2"));
+        assertEquals(errors(openAPI, schema, 1), Arrays.asList("body: must be of type string"));
+    }
+
+    @Test
+    public void unresolvedReferenceTest() {
+        OpenAPI openAPI = openAPI(map("Name", schema(SchemaType.STRING)));
+        assertEquals(errors(openAPI, ref("Missing"), 1), Collections.emptyList());
+        assertEquals(errors(openAPI, schema().ref("https://example.com/schemas/Name"), 1), Collections.emptyList());
+        assertEquals(errors(openAPI, schema().ref("#/components/responses/Name"), 1), Collections.emptyList());
+        // Without a model, references are not resolved
+        assertEquals(errors(null, ref("Name"), 1), Collections.emptyList());
+        assertEquals(errors(null, ref("Name").minimum(BigDecimal.ONE), 0),
+                Arrays.asList("body: must be greater than or equal to 1"));
+    }
+
+    @Test
+    public void recursiveReferenceTest() {
+        Schema node = schema(SchemaType.OBJECT)
+                .required(Arrays.asList("name"))
+                .properties(new LinkedHashMap<>());
+        node.getProperties().put("name", schema(SchemaType.STRING));
+        node.getProperties().put("kids", schema(SchemaType.ARRAY).items(ref("Node")));
+        OpenAPI openAPI = openAPI(map("Node", node));
+
+        Map<String, Object> leaf = object("name", "leaf");
+        Map<String, Object> tree = object("name", "root", "kids",
+                Arrays.asList(object("name", "a", "kids", Arrays.asList(leaf)), leaf));
+        assertEquals(errors(openAPI, ref("Node"), tree), Collections.emptyList());
+
+        Map<String, Object> invalid = object("name", "root", "kids",
+                Arrays.asList(leaf, object("kids", Arrays.asList(object("name", 1)))));
+        assertEquals(errors(openAPI, ref("Node"), invalid),
+                Arrays.asList("body/kids/1/name: is required", "body/kids/1/kids/0/name: must be of type string"));
+    }
+
+    @Test
+    public void recursiveSchemaTest() {
+        // A schema object which contains itself, without any reference
+        Schema list = schema(SchemaType.OBJECT).properties(new LinkedHashMap<>());
+        list.getProperties().put("value", schema(SchemaType.INTEGER));
+        list.getProperties().put("next", list);
+        SchemaValidator validator = new SchemaCompiler(null).compile(list);
+
+        Map<String, Object> value = object("value", 1, "next", object("value", 2, "next", object("value", 3)));
+        assertTrue(validator.isValid(value));
+        Map<String, Object> invalid = object("value", 1, "next", object("value", 2, "next", object("value", "x")));
+        assertFalse(validator.isValid(invalid));
+        assertEquals(ConstraintsTest.toStrings(validator.validate(invalid, "body")),
+                Arrays.asList("body/next/next/value: must be of type integer"));
+    }
+
+    @Test
+    public void referenceCycleTest() {
+        // References which only refer to each other accept any value, and compiling them terminates
+        OpenAPI openAPI = openAPI(map("A", ref("B")));
+        openAPI.getComponents().getSchemas().put("B", ref("A"));
+        assertEquals(errors(openAPI, ref("A"), "anything"), Collections.emptyList());
+
+        // The other keywords of the schemas in the cycle still apply
+        Schema self = schema(SchemaType.STRING);
+        self.setAllOf(Arrays.asList(self));
+        assertErrors(self, 1, "body: must be of type string");
+    }
+
+    @Test
+    public void sharedSchemaTest() {
+        // A schema used in several places is compiled once, and reports errors at each location it is used
+        Schema name = schema(SchemaType.STRING);
+        Schema schema = schema(SchemaType.OBJECT).properties(new LinkedHashMap<>());
+        schema.getProperties().put("first", name);
+        schema.getProperties().put("last", name);
+        assertErrors(schema, object("first", 1, "last", 2), "body/first: must be of type string",
+                "body/last: must be of type string");
+    }
+
+    static OpenAPI pets() {
+        Map<String, Schema> schemas = new LinkedHashMap<>();
+        schemas.put("Cat", schema(SchemaType.OBJECT).required(Arrays.asList("lives"))
+                .properties(map("lives", schema(SchemaType.INTEGER))));
+        schemas.put("Dog", schema(SchemaType.OBJECT).required(Arrays.asList("bark"))
+                .properties(map("bark", schema(SchemaType.STRING))));
+        schemas.put("Fish", schema(SchemaType.OBJECT).required(Arrays.asList("fins")));
+        return openAPI(schemas);
+    }
+
+    static Discriminator discriminator(String... mapping) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < mapping.length; i += 2) {
+            map.put(mapping[i], mapping[i + 1]);
+        }
+        return Models.create(Discriminator.class).propertyName("petType").mapping(map);
+    }
+
+    @Test
+    public void discriminatorTest() {
+        OpenAPI openAPI = pets();
+        Schema pet = schema().oneOf(Arrays.asList(ref("Cat"), ref("Dog")))
+                .discriminator(discriminator("kitten", "Cat"));
+
+        // Values with a known discriminator value are only checked against the selected alternative
+        assertEquals(errors(openAPI, pet, object("petType", "Dog", "bark", "woof")), Collections.emptyList());
+        assertEquals(errors(openAPI, pet, object("petType", "kitten", "lives", 9)), Collections.emptyList());
+        assertEquals(errors(openAPI, pet, object("petType", "Cat", "lives", "nine")),
+                Arrays.asList("body/lives: must be of type integer"));
+        assertEquals(errors(openAPI, pet, object("petType", "Dog", "lives", 9)),
+                Arrays.asList("body/bark: is required"));
+    }
+
+    @Test
+    public void discriminatorFallbackTest() {
+        OpenAPI openAPI = pets();
+        Schema pet = schema().oneOf(Arrays.asList(ref("Cat"), ref("Dog"))).discriminator(discriminator());
+
+        // Values which do not select an alternative are checked against every alternative
+        assertEquals(errors(openAPI, pet, object("lives", 9)), Collections.emptyList());
+        assertEquals(errors(openAPI, pet, object("petType", "Cow", "bark", "moo")), Collections.emptyList());
+        assertEquals(errors(openAPI, pet, object("petType", 1, "lives", 9)), Collections.emptyList());
+        assertEquals(errors(openAPI, pet, object("petType", "Cow")),
+                Arrays.asList("body: must match exactly one of the oneOf schemas"));
+        assertEquals(errors(openAPI, pet, object("lives", 9, "bark", "both")),
+                Arrays.asList("body: must match exactly one of the oneOf schemas"));
+
+        // Values which are not objects are checked against every alternative too
+        assertEquals(errors(openAPI, pet, "cat"), Arrays.asList("body: must match exactly one of the oneOf schemas"));
+        assertEquals(errors(openAPI, pet, null), Arrays.asList("body: must match exactly one of the oneOf schemas"));
+        Schema anyPet = schema().anyOf(Arrays.asList(ref("Cat"), ref("Dog"))).discriminator(discriminator());
+        assertEquals(errors(openAPI, anyPet, Arrays.asList(1)),
+                Arrays.asList("body: must match at least one of the anyOf schemas"));
+        assertEquals(errors(openAPI, anyPet, object("lives", 9, "bark", "both")), Collections.emptyList());
+    }
+
+    @Test
+    public void discriminatorInlineAlternativeTest() {
+        OpenAPI openAPI = pets();
+        Schema bird = schema(SchemaType.OBJECT).required(Arrays.asList("wings"))
+                .properties(map("petType", schema().constValue("Bird")));
+        Schema pet = schema().oneOf(Arrays.asList(ref("Cat"), bird)).discriminator(discriminator());
+
+        // An inline alternative has no implicit discriminator value, but it is still an alternative
+        assertEquals(errors(openAPI, pet, object("petType", "Bird", "wings", 2)), Collections.emptyList());
+        assertEquals(errors(openAPI, pet, object("petType", "Bird")),
+                Arrays.asList("body: must match exactly one of the oneOf schemas"));
+        assertEquals(errors(openAPI, pet, object("petType", "Cat", "wings", 2)),
+                Arrays.asList("body/lives: is required"));
+    }
+
+    @Test
+    public void discriminatorMappingTest() {
+        OpenAPI openAPI = pets();
+        // Fish is not an alternative, so mapping to it does not make it one
+        Schema pet = schema().oneOf(Arrays.asList(ref("Cat"), ref("Dog")))
+                .discriminator(discriminator("fish", "#/components/schemas/Fish", "Dog", "Cat", "missing", "Nothing"));
+        assertEquals(errors(openAPI, pet, object("petType", "fish", "fins", 2)),
+                Arrays.asList("body: must match exactly one of the oneOf schemas"));
+        assertEquals(errors(openAPI, pet, object("petType", "missing", "fins", 2)),
+                Arrays.asList("body: must match exactly one of the oneOf schemas"));
+        // An explicit mapping takes precedence over the name of a referenced schema
+        assertEquals(errors(openAPI, pet, object("petType", "Dog", "lives", 9)), Collections.emptyList());
+        assertEquals(errors(openAPI, pet, object("petType", "Dog", "bark", "woof")),
+                Arrays.asList("body/lives: is required"));
+        assertEquals(errors(openAPI, pet, object("petType", "Cat", "bark", "woof")),
+                Arrays.asList("body/lives: is required"));
+    }
+
+    @Test
+    public void invalidPatternTest() {
+        try {
+            new SchemaCompiler(null).compile(schema().pattern("[a-"));
+            fail("Expected an IllegalArgumentException for an invalid pattern");
+        } catch (IllegalArgumentException e) {
+            assertEquals(e.getMessage(), "Invalid pattern in schema: [a-");
+        }
+        try {
+            new SchemaCompiler(null).compile(schema().patternProperties(map("(", schema())));
+            fail("Expected an IllegalArgumentException for an invalid pattern property");
+        } catch (IllegalArgumentException e) {
+            assertEquals(e.getMessage(), "Invalid pattern in schema: (");
+        }
+    }
+
+    @Test
+    public void validateLocationTest() {
+        SchemaValidator validator = new SchemaCompiler(null).compile(schema().required(Arrays.asList("id")));
+        assertEquals(validator.validate(object(), "query/filter"),
+                Arrays.asList(new ValidationError("query/filter/id", "is required")));
+        assertEquals(validator.validate(object("id", 1), "query/filter"), Collections.emptyList());
+    }
+}